@@ -0,0 +1,233 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tree.LexicographicTree;
+
+/**
+ * Résolution d'un grand nombre de grilles de Boggle de même taille.
+ *
+ * <p>Les tables de voisinage ne dépendent que de la taille des grilles : elles sont construites une seule
+ * fois. Chaque tâche emprunte un {@link BoggleSolver} libre pour les grilles qu'elle traite, puis le rend :
+ * il y a au plus autant de solveurs que de tâches exécutées simultanément, et leurs lettres, cases visitées
+ * et ensembles de mots trouvés sont réutilisés d'une grille à l'autre.
+ * Seuls les résultats demandés (ensemble de mots ou nombre de mots de chaque grille) sont alloués.</p>
+ */
+public class BoggleBatchSolver {
+
+	// Nombre de grilles traitées séquentiellement par une tâche
+	private static final int GRIDS_PER_TASK = 64;
+
+	private final int size;
+	private final LexicographicTree tree;
+	private final ForkJoinPool pool;
+	private final int[] neighborStart;
+	private final int[] neighbors;
+
+	/**
+	 * Constructeur : les grilles seront résolues sur le pool fork/join commun.
+	 * @param size la taille des grilles carrées
+	 * @param dict le dictionnaire des mots autorisés
+	 */
+	public BoggleBatchSolver(int size, LexicographicTree dict) {
+		this(size, dict, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructeur.
+	 * @param size la taille des grilles carrées
+	 * @param dict le dictionnaire des mots autorisés
+	 * @param pool le pool sur lequel les grilles sont réparties
+	 */
+	public BoggleBatchSolver(int size, LexicographicTree dict, ForkJoinPool pool) {
+		if (size < 1) {
+			throw new IllegalArgumentException("La taille doit être supérieure à 0");
+		}
+		this.size = size;
+		this.tree = dict;
+		this.pool = pool;
+		int[][] tables = BoggleSolver.neighborsOf(size, size);
+		this.neighborStart = tables[0];
+		this.neighbors = tables[1];
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Cette méthode résout des grilles et retourne les mots trouvés dans chacune, comme {@link Boggle#solve()}.
+	 * @param grids les lettres des grilles (au moins size x size lettres chacune, seules les premières sont utilisées)
+	 * @return les ensembles de mots trouvés, dans l'ordre des grilles
+	 * @throws IllegalArgumentException si une grille n'a pas assez de lettres
+	 */
+	public List<Set<String>> solve(Stream<String> grids) {
+		List<String> list = toList(grids);
+		List<Set<String>> results = new ArrayList<>(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			results.add(null);
+		}
+		pool.invoke(new BatchTask(list, 0, list.size(), (index, solver) -> results.set(index, new HashSet<>(solver.getFoundWords()))));
+		return results;
+	}
+
+	/**
+	 * Cette méthode résout des grilles et retourne uniquement le nombre de mots trouvés dans chacune : aucun
+	 * ensemble n'est alors alloué par grille.
+	 * @param grids les lettres des grilles (au moins size x size lettres chacune, seules les premières sont utilisées)
+	 * @return le nombre de mots trouvés, dans l'ordre des grilles
+	 * @throws IllegalArgumentException si une grille n'a pas assez de lettres
+	 */
+	public int[] countWords(Stream<String> grids) {
+		List<String> list = toList(grids);
+		int[] counts = new int[list.size()];
+		pool.invoke(new BatchTask(list, 0, list.size(), (index, solver) -> counts[index] = solver.getFoundWords().size()));
+		return counts;
+	}
+
+	/**
+	 * Cette méthode résout des grilles et retourne uniquement leur score (voir {@link Boggle#score()}).
+	 * @param grids les lettres des grilles (au moins size x size lettres chacune, seules les premières sont utilisées)
+	 * @return le score de chaque grille, dans l'ordre des grilles
+	 * @throws IllegalArgumentException si une grille n'a pas assez de lettres
+	 */
+	public int[] scores(Stream<String> grids) {
+		List<String> list = toList(grids);
+		int[] scores = new int[list.size()];
+		pool.invoke(new BatchTask(list, 0, list.size(), (index, solver) -> scores[index] = solver.getScore()));
+		return scores;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private List<String> toList(Stream<String> grids) {
+		List<String> list = grids.collect(Collectors.toList());
+		for (String grid : list) {
+			if (grid.length() < size * size) {
+				throw new IllegalArgumentException("Il faut suffisamment de lettres pour remplir la grille : " + grid);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Traitement du résultat d'une grille, lu dans le solveur qui vient de la résoudre. Les ensembles du
+	 * solveur sont réutilisés pour la grille suivante et ne doivent donc pas être conservés.
+	 */
+	@FunctionalInterface
+	private interface GridResult {
+		void accept(int index, BoggleSolver solver);
+	}
+
+	/**
+	 * Tâche fork/join résolvant un intervalle de grilles, coupé en deux tant qu'il contient plus de
+	 * {@link #GRIDS_PER_TASK} grilles. Les solveurs libres sont conservés dans une file propre à la tâche
+	 * racine, et ne survivent donc pas à la résolution du lot.
+	 */
+	private class BatchTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> grids;
+		private final int from;
+		private final int to;
+		private final GridResult result;
+		private final ConcurrentLinkedQueue<BoggleSolver> solvers;
+
+		BatchTask(List<String> grids, int from, int to, GridResult result) {
+			this(grids, from, to, result, new ConcurrentLinkedQueue<>());
+		}
+
+		private BatchTask(List<String> grids, int from, int to, GridResult result, ConcurrentLinkedQueue<BoggleSolver> solvers) {
+			this.grids = grids;
+			this.from = from;
+			this.to = to;
+			this.result = result;
+			this.solvers = solvers;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= GRIDS_PER_TASK) {
+				BoggleSolver solver = solvers.poll();
+				if (solver == null) {
+					solver = new BoggleSolver(new char[size * size], neighborStart, neighbors, tree);
+				}
+				try {
+					for (int i = from; i < to; i++) {
+						solver.setLetters(grids.get(i));
+						solver.reset();
+						for (int cell = 0; cell < size * size; cell++) {
+							solver.solveFrom(cell);
+						}
+						result.accept(i, solver);
+					}
+				} finally {
+					solvers.add(solver);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new BatchTask(grids, from, middle, result, solvers),
+					new BatchTask(grids, middle, to, result, solvers));
+		}
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Compare le nombre de grilles résolues par seconde en créant un {@link Boggle} par grille et avec
+	 * le solveur par lots.
+	 */
+	private static void testThroughput(int size, int count, LexicographicTree dictionary) {
+		Random random = new Random(size);
+		List<String> grids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			StringBuilder grid = new StringBuilder(size * size);
+			for (int cell = 0; cell < size * size; cell++) {
+				grid.append((char) ('a' + random.nextInt(26)));
+			}
+			grids.add(grid.toString());
+		}
+		BoggleBatchSolver batch = new BoggleBatchSolver(size, dictionary);
+		for (int round = 0; round < 3; round++) {
+			long startTime = System.nanoTime();
+			long words = 0;
+			for (String grid : grids) {
+				words += new Boggle(size, grid, dictionary).solve().size();
+			}
+			long single = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			long batchWords = 0;
+			for (int n : batch.countWords(grids.stream())) {
+				batchWords += n;
+			}
+			long batched = System.nanoTime() - startTime;
+			System.out.printf("%dx%d : Boggle %.0f grilles/s (%d mots), par lots %.0f grilles/s (%d mots, %d threads)%n",
+					size, size, count * 1e9 / single, words, count * 1e9 / batched, batchWords, batch.pool.getParallelism());
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) {
+		LexicographicTree dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		testThroughput(4, 100000, dictionary);
+		testThroughput(5, 100000, dictionary);
+	}
+}
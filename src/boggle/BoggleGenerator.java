@@ -0,0 +1,290 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import tree.LexicographicTree;
+
+/**
+ * Génération de grilles de Boggle à score élevé par recuit simulé.
+ *
+ * <p>Une chaine part d'une grille aléatoire et lui applique des modifications successives : changement de
+ * la lettre d'une case ou échange de deux cases. Chaque grille candidate est évaluée par un
+ * {@link BoggleSolver} qui travaille directement sur le tableau de lettres de la chaine, sans allocation
+ * autre que celle des mots trouvés. Une modification qui améliore le score est toujours conservée ; une
+ * modification qui le dégrade l'est avec une probabilité qui diminue avec la température, elle-même
+ * décroissante au cours du temps alloué (ou du nombre de modifications alloué). La température est relative au score courant, qui varie de
+ * quelques dizaines de points pour une grille aléatoire à plusieurs milliers pour une bonne grille.
+ * La meilleure grille rencontrée est retournée.</p>
+ *
+ * <p>Les lettres sont tirées selon leur fréquence dans le dictionnaire. Plusieurs chaines indépendantes
+ * peuvent être exécutées en parallèle sur un pool fork/join.</p>
+ *
+ * <p>Avec une durée, le nombre de modifications essayées dépend de la machine et de sa charge : une même
+ * graine peut donner des grilles différentes d'une exécution à l'autre. Avec un nombre de modifications
+ * ({@link #generateIterations(long, long)}), le résultat ne dépend que de la graine.</p>
+ */
+public class BoggleGenerator {
+
+	// Températures initiale et finale du recuit, en fraction du score courant
+	private static final double START_TEMPERATURE = 0.02;
+	private static final double END_TEMPERATURE = 0.0005;
+	// Taille de la table de tirage des lettres
+	private static final int LETTER_TABLE_SIZE = 1024;
+
+	private final int size;
+	private final LexicographicTree tree;
+	private final int[] neighborStart;
+	private final int[] neighbors;
+	// Lettres répétées selon leur fréquence dans le dictionnaire
+	private final char[] letterTable;
+
+	/**
+	 * Constructeur.
+	 * @param size la taille des grilles carrées
+	 * @param dict le dictionnaire des mots autorisés
+	 */
+	public BoggleGenerator(int size, LexicographicTree dict) {
+		if (size < 1) {
+			throw new IllegalArgumentException("La taille doit être supérieure à 0");
+		}
+		this.size = size;
+		this.tree = dict;
+		int[][] tables = BoggleSolver.neighborsOf(size, size);
+		this.neighborStart = tables[0];
+		this.neighbors = tables[1];
+		this.letterTable = buildLetterTable(dict);
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Cette méthode exécute une chaine de recuit dans le thread appelant.
+	 * @param seed la graine du générateur aléatoire
+	 * @param budgetMillis la durée de la recherche, en millisecondes
+	 * @return les lettres de la meilleure grille trouvée (size x size lettres minuscules)
+	 */
+	public String generate(long seed, long budgetMillis) {
+		return anneal(new SplittableRandom(seed), budgetMillis * 1000000, true);
+	}
+
+	/**
+	 * Cette méthode exécute une chaine de recuit dans le thread appelant, pour un nombre fixé de
+	 * modifications : une même graine donne toujours la même grille.
+	 * @param seed la graine du générateur aléatoire
+	 * @param iterations le nombre de modifications essayées
+	 * @return les lettres de la meilleure grille trouvée (size x size lettres minuscules)
+	 */
+	public String generateIterations(long seed, long iterations) {
+		return anneal(new SplittableRandom(seed), iterations, false);
+	}
+
+	/**
+	 * Cette méthode exécute plusieurs chaines de recuit indépendantes sur le pool fork/join commun.
+	 * @param chains le nombre de chaines
+	 * @param seed la graine dont sont dérivés les générateurs aléatoires des chaines
+	 * @param budgetMillis la durée de chaque chaine, en millisecondes
+	 * @return la meilleure grille trouvée par chaque chaine, dans l'ordre des chaines
+	 */
+	public List<String> generate(int chains, long seed, long budgetMillis) {
+		return generate(chains, seed, budgetMillis, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Cette méthode exécute plusieurs chaines de recuit indépendantes sur le pool donné. La durée est comptée
+	 * depuis le début de chaque chaine : s'il y a plus de chaines que de threads, la génération dure
+	 * environ (chains / parallélisme) fois la durée demandée.
+	 * @param chains le nombre de chaines
+	 * @param seed la graine dont sont dérivés les générateurs aléatoires des chaines
+	 * @param budgetMillis la durée de chaque chaine, en millisecondes
+	 * @param pool le pool exécutant les chaines
+	 * @return la meilleure grille trouvée par chaque chaine, dans l'ordre des chaines
+	 */
+	public List<String> generate(int chains, long seed, long budgetMillis, ForkJoinPool pool) {
+		return generate(chains, seed, budgetMillis * 1000000, true, pool);
+	}
+
+	/**
+	 * Cette méthode exécute plusieurs chaines de recuit indépendantes sur le pool fork/join commun, pour
+	 * un nombre fixé de modifications par chaine.
+	 * @param chains le nombre de chaines
+	 * @param seed la graine dont sont dérivés les générateurs aléatoires des chaines
+	 * @param iterations le nombre de modifications essayées par chaque chaine
+	 * @return la meilleure grille trouvée par chaque chaine, dans l'ordre des chaines
+	 */
+	public List<String> generateIterations(int chains, long seed, long iterations) {
+		return generateIterations(chains, seed, iterations, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Cette méthode exécute plusieurs chaines de recuit indépendantes sur le pool donné, pour un nombre fixé
+	 * de modifications par chaine : le résultat ne dépend que de la graine, quel que soit le pool.
+	 * @param chains le nombre de chaines
+	 * @param seed la graine dont sont dérivés les générateurs aléatoires des chaines
+	 * @param iterations le nombre de modifications essayées par chaque chaine
+	 * @param pool le pool exécutant les chaines
+	 * @return la meilleure grille trouvée par chaque chaine, dans l'ordre des chaines
+	 */
+	public List<String> generateIterations(int chains, long seed, long iterations, ForkJoinPool pool) {
+		return generate(chains, seed, iterations, false, pool);
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode exécute plusieurs chaines de recuit indépendantes sur le pool donné.
+	 * @param budget la durée de chaque chaine en nanosecondes, ou son nombre de modifications
+	 * @param timed true si le budget est une durée
+	 */
+	private List<String> generate(int chains, long seed, long budget, boolean timed, ForkJoinPool pool) {
+		if (chains < 1) {
+			throw new IllegalArgumentException("Il faut au moins une chaine");
+		}
+		SplittableRandom random = new SplittableRandom(seed);
+		List<ForkJoinTask<String>> tasks = new ArrayList<>(chains);
+		for (int chain = 0; chain < chains; chain++) {
+			SplittableRandom chainRandom = random.split();
+			tasks.add(pool.submit(() -> anneal(chainRandom, budget, timed)));
+		}
+		List<String> grids = new ArrayList<>(chains);
+		for (ForkJoinTask<String> task : tasks) {
+			grids.add(task.join());
+		}
+		return grids;
+	}
+
+	/**
+	 * Cette méthode construit une table de tirage des lettres a à z, chacune y figurant proportionnellement
+	 * à son nombre d'occurrences dans les mots du dictionnaire (au moins une fois).
+	 */
+	private static char[] buildLetterTable(LexicographicTree dict) {
+		long[] counts = new long[26];
+		long total = 0;
+		for (String word : dict.getWords("")) {
+			for (int i = 0; i < word.length(); i++) {
+				char c = word.charAt(i);
+				if (c >= 'a' && c <= 'z') {
+					counts[c - 'a']++;
+					total++;
+				}
+			}
+		}
+		StringBuilder table = new StringBuilder(LETTER_TABLE_SIZE + 26);
+		for (int letter = 0; letter < 26; letter++) {
+			long copies = total == 0 ? 1 : Math.max(1, counts[letter] * LETTER_TABLE_SIZE / total);
+			for (long i = 0; i < copies; i++) {
+				table.append((char) ('a' + letter));
+			}
+		}
+		return table.toString().toCharArray();
+	}
+
+	/**
+	 * Cette méthode exécute une chaine de recuit simulé.
+	 * @param random le générateur aléatoire de la chaine
+	 * @param budget la durée de la chaine en nanosecondes, ou son nombre de modifications
+	 * @param timed true si le budget est une durée
+	 * @return les lettres de la meilleure grille rencontrée
+	 */
+	private String anneal(SplittableRandom random, long budget, boolean timed) {
+		int cells = size * size;
+		char[] letters = new char[cells];
+		for (int cell = 0; cell < cells; cell++) {
+			letters[cell] = randomLetter(random);
+		}
+		// Le solveur lit directement le tableau modifié par la chaine
+		BoggleSolver solver = new BoggleSolver(letters, neighborStart, neighbors, tree);
+		int score = evaluate(solver);
+		char[] best = letters.clone();
+		int bestScore = score;
+
+		long start = System.nanoTime();
+		long elapsed;
+		for (long step = 0; (elapsed = timed ? System.nanoTime() - start : step) < budget; step++) {
+			double temperature = Math.max(1, score)
+					* START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, (double) elapsed / budget);
+			// Modification : une case change de lettre, ou deux cases sont échangées
+			int first = random.nextInt(cells);
+			int second = first;
+			char firstLetter = letters[first];
+			char secondLetter = firstLetter;
+			if (cells > 1 && random.nextBoolean()) {
+				second = random.nextInt(cells);
+				secondLetter = letters[second];
+				letters[first] = secondLetter;
+				letters[second] = firstLetter;
+			} else {
+				letters[first] = randomLetter(random);
+			}
+			int candidate = evaluate(solver);
+			if (candidate >= score || random.nextDouble() < Math.exp((candidate - score) / temperature)) {
+				score = candidate;
+				if (score > bestScore) {
+					bestScore = score;
+					System.arraycopy(letters, 0, best, 0, cells);
+				}
+			} else {
+				letters[second] = secondLetter;
+				letters[first] = firstLetter;
+			}
+		}
+		return new String(best);
+	}
+
+	/**
+	 * @return le score de la grille actuellement contenue dans le tableau de lettres du solveur
+	 */
+	private int evaluate(BoggleSolver solver) {
+		solver.reset();
+		for (int cell = 0; cell < size * size; cell++) {
+			solver.solveFrom(cell);
+		}
+		return solver.getScore();
+	}
+
+	private char randomLetter(SplittableRandom random) {
+		return letterTable[random.nextInt(letterTable.length)];
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Compare le score moyen de grilles aléatoires à celui des grilles générées par plusieurs chaines.
+	 */
+	private static void testGenerate(int size, int chains, long budgetMillis, LexicographicTree dictionary) {
+		int randomScore = 0;
+		for (int i = 0; i < 100; i++) {
+			randomScore += new Boggle(size, dictionary).score();
+		}
+		BoggleGenerator generator = new BoggleGenerator(size, dictionary);
+		long startTime = System.currentTimeMillis();
+		List<String> grids = generator.generate(chains, 42, budgetMillis);
+		long duration = System.currentTimeMillis() - startTime;
+		System.out.println(size + "x" + size + " : score moyen d'une grille aléatoire " + randomScore / 100 + ", "
+				+ chains + " chaines de " + budgetMillis + " ms en " + duration + " ms ("
+				+ ForkJoinPool.getCommonPoolParallelism() + " threads) :");
+		for (String grid : grids) {
+			Boggle boggle = new Boggle(size, grid, dictionary);
+			System.out.println("  " + grid + " : score " + boggle.score() + ", " + boggle.solve().size() + " mots");
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) {
+		LexicographicTree dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		testGenerate(4, 4, 2000, dictionary);
+		testGenerate(5, 4, 2000, dictionary);
+	}
+}
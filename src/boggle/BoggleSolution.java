@@ -0,0 +1,59 @@
+package boggle;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Résultat de {@link Boggle#solveWithPaths()} : les mots trouvés, un chemin pour chacun et le score total
+ * de la grille.
+ *
+ * <p>Un chemin est la suite des indices des cases formant le mot, de la première à la dernière lettre ;
+ * la case de la ligne {@code r} et de la colonne {@code c} a pour indice {@code r * size + c}.</p>
+ */
+public final class BoggleSolution {
+
+	private final Map<String, int[]> paths;
+	private final int score;
+
+	/**
+	 * Constructeur.
+	 * @param paths le chemin de chaque mot trouvé
+	 * @param score le score total des mots trouvés
+	 */
+	BoggleSolution(Map<String, int[]> paths, int score) {
+		this.paths = paths;
+		this.score = score;
+	}
+
+	/**
+	 * @return l'ensemble (non modifiable) des mots trouvés
+	 */
+	public Set<String> getWords() {
+		return Collections.unmodifiableSet(paths.keySet());
+	}
+
+	/**
+	 * Cette méthode retourne le chemin enregistré pour un mot, lors de sa première découverte.
+	 * @param word un mot
+	 * @return les indices des cases formant le mot, ou null si le mot n'a pas été trouvé
+	 */
+	public int[] getPath(String word) {
+		int[] path = paths.get(word);
+		return path == null ? null : path.clone();
+	}
+
+	/**
+	 * @return la somme des scores des mots trouvés (voir {@link Boggle#score(String)})
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return le nombre de mots trouvés
+	 */
+	public int size() {
+		return paths.size();
+	}
+}
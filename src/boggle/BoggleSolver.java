@@ -0,0 +1,595 @@
+package boggle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import tree.LexicographicTree;
+import tree.TrieNode;
+
+/**
+ * Parcours d'une grille de Boggle synchronisé avec l'arbre lexicographique.
+ *
+ * <p>La récursion conserve le noeud de l'arbre correspondant au chemin courant : chaque pas dans la grille
+ * descend d'un seul noeud dans l'arbre, au lieu de rechercher à nouveau tout le préfixe depuis la racine.
+ * Un chemin est abandonné dès que le noeud n'a pas d'enfant pour la lettre suivante, et une chaine n'est
+ * créée que lorsqu'un noeud de fin de mot est atteint.</p>
+ *
+ * <p>Les cases visitées sont marquées dans un tableau de {@code long} (un bit par case) et le mot courant
+ * est construit dans un seul {@link StringBuilder} : un pas de la recherche n'alloue aucun objet. Les noeuds
+ * de fin de mot déjà atteints sont mémorisés, afin qu'un mot présent plusieurs fois dans la grille ne soit
+ * converti en chaine qu'une seule fois.</p>
+ *
+ * <p>Le score des nouveaux mots est cumulé pendant la recherche. Les cases du chemin courant sont empilées
+ * dans un tableau d'entiers, copié uniquement lorsque l'enregistrement des chemins est demandé et qu'un
+ * nouveau mot est trouvé.</p>
+ *
+ * <p>Une case peut contenir plusieurs lettres (« qu », digrammes) : sa première lettre est dans le
+ * tableau des lettres et les suivantes dans celui des suites. Un pas de la recherche descend alors de
+ * toute la séquence de la case dans l'arbre. Une grille sans case de plusieurs lettres n'a pas de tableau
+ * des suites, et son parcours n'effectue qu'un test supplémentaire par pas.</p>
+ *
+ * <p>Le solveur peut aussi compter tous les chemins de chaque mot, éventuellement en se limitant aux
+ * chemins qui passent par une case donnée : c'est ce qui permet de mettre à jour une solution après la
+ * modification d'une seule case. Les cases de départ et les voisins trop éloignés de cette case pour
+ * qu'un mot l'atteigne sont alors écartés, à l'aide des distances calculées par un parcours en largeur
+ * limité à la longueur du plus long mot.</p>
+ *
+ * <p>Un solveur n'est pas prévu pour être utilisé par plusieurs threads à la fois. Plusieurs solveurs
+ * peuvent en revanche partager un même ensemble (concurrent) de noeuds trouvés, afin qu'un mot ne soit
+ * signalé qu'une fois pour l'ensemble des solveurs.</p>
+ */
+class BoggleSolver {
+
+	// Longueur minimale des mots retenus par solve()
+	static final int MIN_WORD_LENGTH = 3;
+
+	private final char[] letters;
+	// Lettres suivant la première dans chaque case (null pour une case d'une seule lettre, ou pour toute
+	// la grille si aucune case n'a plusieurs lettres)
+	private String[] tails;
+	private final int[] neighborStart;
+	private final int[] neighbors;
+	private final LexicographicTree dictionary;
+	// Longueur minimale des mots retenus par la recherche
+	private int minWordLength = MIN_WORD_LENGTH;
+	// Un bit par case : le bit (cell % 64) du mot (cell / 64)
+	private final long[] visited;
+	private final StringBuilder currentWord = new StringBuilder();
+	// Cases du chemin courant, de la case de départ à la dernière case
+	private final int[] path;
+	private int depth;
+	// Somme des scores des mots trouvés par ce solveur
+	private int score;
+	// Chemin de chaque mot trouvé (null si les chemins ne sont pas enregistrés)
+	private Map<String, int[]> foundPaths;
+	// Distance de chaque case à la case traversée par countPaths (-1 au-delà de la longueur maximale)
+	private int[] distance;
+	private Set<String> foundWords = new HashSet<>();
+	// Noeuds des mots déjà trouvés (comparés par identité)
+	private Set<TrieNode> foundNodes;
+	// Action appliquée à chaque nouveau mot (null pour l'ajouter à foundWords)
+	private final Consumer<String> action;
+
+	/**
+	 * Constructeur.
+	 * @param letters les lettres de la grille, case par case
+	 * @param neighborStart le début des voisins de chaque case dans "neighbors" (format CSR)
+	 * @param neighbors les voisins des cases, à la suite
+	 * @param dictionary le dictionnaire des mots autorisés
+	 */
+	BoggleSolver(char[] letters, int[] neighborStart, int[] neighbors, LexicographicTree dictionary) {
+		this(letters, neighborStart, neighbors, dictionary, new HashSet<>(), null);
+	}
+
+	/**
+	 * Constructeur : les mots trouvés ne sont pas conservés mais transmis à une action.
+	 * @param letters les lettres de la grille, case par case
+	 * @param neighborStart le début des voisins de chaque case dans "neighbors" (format CSR)
+	 * @param neighbors les voisins des cases, à la suite
+	 * @param dictionary le dictionnaire des mots autorisés
+	 * @param foundNodes les noeuds des mots déjà trouvés, éventuellement partagés avec d'autres solveurs
+	 * @param action l'action appliquée à chaque mot dont le noeud n'était pas encore dans "foundNodes"
+	 */
+	BoggleSolver(char[] letters, int[] neighborStart, int[] neighbors, LexicographicTree dictionary,
+			Set<TrieNode> foundNodes, Consumer<String> action) {
+		this.foundNodes = foundNodes;
+		this.action = action;
+		this.letters = letters;
+		this.neighborStart = neighborStart;
+		this.neighbors = neighbors;
+		this.dictionary = dictionary;
+		this.visited = new long[(letters.length + 63) >>> 6];
+		this.path = new int[letters.length];
+	}
+
+	/**
+	 * Cette méthode définit les lettres suivant la première dans chaque case. Le tableau n'est pas copié :
+	 * ses modifications ultérieures sont prises en compte.
+	 * @param tails les suites des cases (null pour une case d'une seule lettre), ou null si aucune case
+	 * n'a plusieurs lettres
+	 */
+	void setTails(String[] tails) {
+		this.tails = tails;
+	}
+
+	/**
+	 * Cette méthode change la longueur minimale des mots retenus par {@link #solve()} et
+	 * {@link #solveFrom(int)} ({@link #MIN_WORD_LENGTH} par défaut).
+	 * @param minWordLength la longueur minimale
+	 */
+	void setMinWordLength(int minWordLength) {
+		this.minWordLength = minWordLength;
+	}
+
+	/**
+	 * Cette méthode demande l'enregistrement d'un chemin (le premier rencontré) pour chaque mot trouvé
+	 * à partir de maintenant.
+	 */
+	void recordPaths() {
+		if (foundPaths == null) {
+			foundPaths = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Cette méthode calcule le score d'un mot selon sa longueur (règles officielles du Boggle).
+	 * @param length la longueur du mot
+	 * @return 0 en dessous de 3 lettres, 1 pour 3 ou 4 lettres, 2 pour 5, 3 pour 6, 5 pour 7 et 11 au-delà
+	 */
+	static int score(int length) {
+		switch (length) {
+		case 0:
+		case 1:
+		case 2:
+			return 0;
+		case 3:
+		case 4:
+			return 1;
+		case 5:
+			return 2;
+		case 6:
+			return 3;
+		case 7:
+			return 5;
+		default:
+			return 11;
+		}
+	}
+
+	/**
+	 * Cette méthode recherche tous les mots du dictionnaire présents dans la grille.
+	 * @return l'ensemble des mots trouvés
+	 */
+	Set<String> solve() {
+		clear();
+		for (int cell = 0; cell < letters.length; cell++) {
+			solveFrom(cell);
+		}
+		return foundWords;
+	}
+
+	/**
+	 * Cette méthode recherche les mots du dictionnaire dont le chemin commence à la case donnée, et les
+	 * ajoute aux mots déjà trouvés par ce solveur.
+	 * @param cell la case de départ
+	 */
+	void solveFrom(int cell) {
+		TrieNode root = dictionary.getNode("");
+		TrieNode node = root == null ? null : step(root, cell);
+		if (node != null) {
+			search(cell, node);
+		}
+	}
+
+	/**
+	 * @return les mots trouvés depuis le dernier appel à {@link #clear()} (vide si les mots sont transmis
+	 * à une action)
+	 */
+	Set<String> getFoundWords() {
+		return foundWords;
+	}
+
+	/**
+	 * @return la somme des scores des mots trouvés depuis le dernier appel à {@link #clear()}
+	 */
+	int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return le chemin (cases successives) de chaque mot trouvé depuis le dernier appel à {@link #clear()},
+	 * ou null si les chemins ne sont pas enregistrés
+	 */
+	Map<String, int[]> getFoundPaths() {
+		return foundPaths;
+	}
+
+	/**
+	 * Cette méthode oublie les mots trouvés. L'ensemble retourné auparavant par {@link #getFoundWords()}
+	 * n'est pas modifié.
+	 */
+	void clear() {
+		foundWords = new HashSet<>();
+		foundNodes = new HashSet<>();
+		score = 0;
+		if (foundPaths != null) {
+			foundPaths = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Cette méthode oublie les mots trouvés en vidant les ensembles existants, qui sont ainsi réutilisés
+	 * d'une grille à l'autre. L'ensemble retourné auparavant par {@link #getFoundWords()} est vidé.
+	 */
+	void reset() {
+		foundWords.clear();
+		foundNodes.clear();
+		score = 0;
+		if (foundPaths != null) {
+			foundPaths.clear();
+		}
+	}
+
+	/**
+	 * Cette méthode remplace les lettres de la grille, sans modifier ses dimensions.
+	 * @param grid les nouvelles lettres, case par case (seules les premières sont utilisées)
+	 */
+	void setLetters(CharSequence grid) {
+		for (int cell = 0; cell < letters.length; cell++) {
+			letters[cell] = Character.toLowerCase(grid.charAt(cell));
+		}
+	}
+
+	/**
+	 * Nombre de chemins formant un mot de la grille.
+	 */
+	static final class PathCount {
+		final String word;
+		int paths;
+
+		PathCount(String word) {
+			this.word = word;
+		}
+	}
+
+	/**
+	 * Cette méthode ajoute "delta" au nombre de chemins de chaque mot formé par les chemins de la grille.
+	 * Un mot dont le nombre de chemins devient nul est retiré.
+	 * @param counts le nombre de chemins de chaque mot, indexé par le noeud de fin du mot
+	 * @param delta 1 pour ajouter les chemins, -1 pour les retirer
+	 * @return la variation du score de la grille (mots ajoutés ou retirés de "counts")
+	 */
+	int countPaths(Map<TrieNode, PathCount> counts, int delta) {
+		TrieNode root = dictionary.getNode("");
+		int scoreDelta = 0;
+		for (int cell = 0; root != null && cell < letters.length; cell++) {
+			TrieNode node = step(root, cell);
+			if (node != null) {
+				scoreDelta += countFrom(cell, node, -1, Integer.MAX_VALUE, counts, delta);
+			}
+		}
+		return scoreDelta;
+	}
+
+	/**
+	 * Cette méthode ajoute "delta" au nombre de chemins de chaque mot, pour les seuls chemins qui passent
+	 * par la case "through". Seules les cases situées à moins de "maxLength" pas de cette case sont
+	 * explorées.
+	 * @param through la case par laquelle passent les chemins comptés
+	 * @param maxLength la longueur du plus long mot du dictionnaire
+	 * @param counts le nombre de chemins de chaque mot, indexé par le noeud de fin du mot
+	 * @param delta 1 pour ajouter les chemins, -1 pour les retirer
+	 * @return la variation du score de la grille (mots ajoutés ou retirés de "counts")
+	 */
+	int countPathsThrough(int through, int maxLength, Map<TrieNode, PathCount> counts, int delta) {
+		TrieNode root = dictionary.getNode("");
+		if (root == null || maxLength < 1) {
+			return 0;
+		}
+		if (distance == null) {
+			distance = new int[letters.length];
+			Arrays.fill(distance, -1);
+		}
+		// Parcours en largeur depuis la case traversée, limité à maxLength - 1 pas
+		int[] reached = new int[Math.min(letters.length, 1 + 8 * maxLength * maxLength)];
+		int count = 0;
+		reached[count++] = through;
+		distance[through] = 0;
+		for (int i = 0; i < count; i++) {
+			int cell = reached[i];
+			if (distance[cell] + 1 < maxLength) {
+				for (int k = neighborStart[cell], end = neighborStart[cell + 1]; k < end; k++) {
+					int neighbor = neighbors[k];
+					if (distance[neighbor] < 0) {
+						distance[neighbor] = distance[cell] + 1;
+						if (count == reached.length) {
+							reached = Arrays.copyOf(reached, 2 * count);
+						}
+						reached[count++] = neighbor;
+					}
+				}
+			}
+		}
+		int scoreDelta = 0;
+		for (int i = 0; i < count; i++) {
+			TrieNode node = step(root, reached[i]);
+			if (node != null) {
+				scoreDelta += countFrom(reached[i], node, through, maxLength, counts, delta);
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			distance[reached[i]] = -1;
+		}
+		return scoreDelta;
+	}
+
+	/**
+	 * @param node un noeud de l'arbre
+	 * @return la longueur du plus long mot du sous-arbre, à partir de ce noeud
+	 */
+	static int maxWordLength(TrieNode node) {
+		int height = 0;
+		for (int i = 0; i < node.getNumbersOfChildren(); i++) {
+			TrieNode child = node.getChild(node.indexToChar(i));
+			if (child != null) {
+				height = Math.max(height, maxWordLength(child) + 1);
+			}
+		}
+		return height;
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si un mot peut être formé dans la grille, qu'il soit ou non
+	 * dans le dictionnaire.
+	 * @param word un mot non vide
+	 * @return true si un chemin de la grille forme le mot, false sinon
+	 */
+	boolean contains(String word) {
+		for (int cell = 0; cell < letters.length; cell++) {
+			if (matches(cell, word, 0) && containsFrom(cell, tileLength(cell), word)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si un mot peut être formé dans la grille, en ne partant que des
+	 * cases données.
+	 * @param word un mot non vide
+	 * @param starts les cases de départ possibles (celles dont la première lettre est celle du mot)
+	 * @return true si un chemin partant d'une de ces cases forme le mot, false sinon
+	 */
+	boolean contains(String word, int[] starts) {
+		for (int cell : starts) {
+			if (matches(cell, word, 0) && containsFrom(cell, tileLength(cell), word)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Cette méthode compte les chemins distincts de la grille formant un mot, sans parcourir les chemins
+	 * des autres mots.
+	 * @param word un mot non vide
+	 * @return le nombre de chemins formant le mot
+	 */
+	int countPaths(String word) {
+		int paths = 0;
+		for (int cell = 0; cell < letters.length; cell++) {
+			if (matches(cell, word, 0)) {
+				paths += countFrom(cell, tileLength(cell), word);
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Cette méthode construit les tables de voisinage (format CSR) d'une grille rectangulaire. Chaque case
+	 * n'est comparée qu'aux (au plus) huit cases qui l'entourent : la construction est linéaire en le
+	 * nombre de cases.
+	 * @param rows le nombre de lignes
+	 * @param cols le nombre de colonnes
+	 * @return le début des voisins de chaque case (rows * cols + 1 valeurs), puis les voisins à la suite
+	 */
+	static int[][] neighborsOf(int rows, int cols) {
+		int cells = rows * cols;
+		int[] neighborStart = new int[cells + 1];
+		int[] neighbors = new int[8 * cells];
+		int count = 0;
+		for (int cell = 0; cell < cells; cell++) {
+			neighborStart[cell] = count;
+			int row = cell / cols;
+			int col = cell % cols;
+			for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+				for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+					if (r != row || c != col) {
+						neighbors[count++] = r * cols + c;
+					}
+				}
+			}
+		}
+		neighborStart[cells] = count;
+		return new int[][] { neighborStart, neighbors };
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode poursuit récursivement un chemin dont la dernière case est "cell" et dont les lettres
+	 * mènent au noeud "node" de l'arbre.
+	 * @param cell la dernière case du chemin
+	 * @param node le noeud de l'arbre correspondant aux lettres du chemin
+	 */
+	private void search(int cell, TrieNode node) {
+		visited[cell >>> 6] |= 1L << cell;
+		int length = currentWord.length();
+		appendTile(cell);
+		path[depth++] = cell;
+		if (node.isWord() && currentWord.length() >= minWordLength && foundNodes.add(node)) {
+			String word = currentWord.toString();
+			score += score(word.length());
+			if (foundPaths != null) {
+				foundPaths.put(word, Arrays.copyOf(path, depth));
+			}
+			if (action == null) {
+				foundWords.add(word);
+			} else {
+				action.accept(word);
+			}
+		}
+		if (node.hasChildren()) {
+			for (int k = neighborStart[cell], end = neighborStart[cell + 1]; k < end; k++) {
+				int neighbor = neighbors[k];
+				if ((visited[neighbor >>> 6] & 1L << neighbor) == 0) {
+					TrieNode child = step(node, neighbor);
+					if (child != null) {
+						search(neighbor, child);
+					}
+				}
+			}
+		}
+		depth--;
+		currentWord.setLength(length);
+		visited[cell >>> 6] &= ~(1L << cell);
+	}
+
+	/**
+	 * Cette méthode compte récursivement les chemins prolongeant le chemin courant, dont la dernière case
+	 * est "cell" et dont les lettres mènent au noeud "node" de l'arbre.
+	 * @param cell la dernière case du chemin
+	 * @param node le noeud de l'arbre correspondant aux lettres du chemin
+	 * @param through la case par laquelle les chemins comptés doivent passer (-1 pour tous les chemins)
+	 * @param maxLength la longueur du plus long mot du dictionnaire
+	 * @param counts le nombre de chemins de chaque mot, indexé par le noeud de fin du mot
+	 * @param delta la valeur ajoutée au nombre de chemins d'un mot, pour chaque chemin
+	 * @return la variation du score de la grille
+	 */
+	private int countFrom(int cell, TrieNode node, int through, int maxLength, Map<TrieNode, PathCount> counts, int delta) {
+		visited[cell >>> 6] |= 1L << cell;
+		int length = currentWord.length();
+		appendTile(cell);
+		boolean passed = through < 0 || (visited[through >>> 6] & 1L << through) != 0;
+		int scoreDelta = 0;
+		if (passed && node.isWord() && currentWord.length() >= MIN_WORD_LENGTH) {
+			PathCount count = counts.get(node);
+			if (count == null) {
+				// Premier chemin du mot : seul cas où une chaine est créée
+				count = new PathCount(currentWord.toString());
+				counts.put(node, count);
+				scoreDelta += score(count.word.length());
+			}
+			count.paths += delta;
+			if (count.paths == 0) {
+				counts.remove(node);
+				scoreDelta -= score(count.word.length());
+			}
+		}
+		if (node.hasChildren()) {
+			for (int k = neighborStart[cell], end = neighborStart[cell + 1]; k < end; k++) {
+				int neighbor = neighbors[k];
+				// Le chemin doit encore pouvoir atteindre la case traversée
+				if ((visited[neighbor >>> 6] & 1L << neighbor) == 0
+						&& (passed || distance[neighbor] >= 0 && currentWord.length() + 1 + distance[neighbor] <= maxLength)) {
+					TrieNode child = step(node, neighbor);
+					if (child != null) {
+						scoreDelta += countFrom(neighbor, child, through, maxLength, counts, delta);
+					}
+				}
+			}
+		}
+		currentWord.setLength(length);
+		visited[cell >>> 6] &= ~(1L << cell);
+		return scoreDelta;
+	}
+
+	/**
+	 * Cette méthode descend dans l'arbre de toutes les lettres d'une case.
+	 * @param node le noeud de départ
+	 * @param cell la case
+	 * @return le noeud atteint, ou null si aucun mot ne se poursuit par les lettres de la case
+	 */
+	private TrieNode step(TrieNode node, int cell) {
+		TrieNode child = node.getChild(letters[cell]);
+		if (tails != null && child != null && tails[cell] != null) {
+			String tail = tails[cell];
+			for (int i = 0; i < tail.length() && child != null; i++) {
+				child = child.getChild(tail.charAt(i));
+			}
+		}
+		return child;
+	}
+
+	private void appendTile(int cell) {
+		currentWord.append(letters[cell]);
+		if (tails != null && tails[cell] != null) {
+			currentWord.append(tails[cell]);
+		}
+	}
+
+	private int tileLength(int cell) {
+		return tails == null || tails[cell] == null ? 1 : 1 + tails[cell].length();
+	}
+
+	/**
+	 * @return true si les lettres de la case apparaissent dans le mot à partir de la position "index"
+	 */
+	private boolean matches(int cell, String word, int index) {
+		return index < word.length() && letters[cell] == word.charAt(index)
+				&& (tails == null || tails[cell] == null || word.startsWith(tails[cell], index + 1));
+	}
+
+	/**
+	 * Cette méthode recherche récursivement la suite d'un mot. Les lettres du chemin, jusqu'à la case
+	 * courante comprise, correspondent déjà aux "end" premiers caractères du mot.
+	 * @param cell la case courante
+	 * @param end la position dans le mot qui suit les lettres de la case courante
+	 * @param word le mot à trouver
+	 * @return true si la fin du mot est trouvée
+	 */
+	private boolean containsFrom(int cell, int end, String word) {
+		if (end == word.length()) {
+			return true;
+		}
+		visited[cell >>> 6] |= 1L << cell;
+		boolean found = false;
+		for (int k = neighborStart[cell], last = neighborStart[cell + 1]; k < last && !found; k++) {
+			int neighbor = neighbors[k];
+			found = (visited[neighbor >>> 6] & 1L << neighbor) == 0 && matches(neighbor, word, end)
+					&& containsFrom(neighbor, end + tileLength(neighbor), word);
+		}
+		visited[cell >>> 6] &= ~(1L << cell);
+		return found;
+	}
+
+	/**
+	 * Cette méthode compte récursivement les chemins formant la suite d'un mot, comme
+	 * {@link #containsFrom(int, int, String)}.
+	 * @param cell la case courante
+	 * @param end la position dans le mot qui suit les lettres de la case courante
+	 * @param word le mot à former
+	 * @return le nombre de chemins prolongeant le chemin courant jusqu'à la fin du mot
+	 */
+	private int countFrom(int cell, int end, String word) {
+		if (end == word.length()) {
+			return 1;
+		}
+		visited[cell >>> 6] |= 1L << cell;
+		int paths = 0;
+		for (int k = neighborStart[cell], last = neighborStart[cell + 1]; k < last; k++) {
+			int neighbor = neighbors[k];
+			if ((visited[neighbor >>> 6] & 1L << neighbor) == 0 && matches(neighbor, word, end)) {
+				paths += countFrom(neighbor, end + tileLength(neighbor), word);
+			}
+		}
+		visited[cell >>> 6] &= ~(1L << cell);
+		return paths;
+	}
+}
@@ -0,0 +1,242 @@
+package boggle;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import tree.LexicographicTree;
+import tree.TrieNode;
+
+/**
+ * Résolution par tuiles de très grandes grilles de Boggle.
+ *
+ * <p>Un chemin ne peut pas être plus long que le plus long mot du dictionnaire : un mot commençant dans une
+ * case ne s'en éloigne donc jamais de plus de (longueur maximale - 1) cases. La grille est découpée en
+ * tuiles carrées ; chaque tuile est résolue séparément, pour les seules cases de départ qu'elle contient,
+ * sur une copie locale de ses lettres entourée d'une bordure de cette largeur. Les lettres sont lues à la
+ * demande à partir d'une {@link LetterSource} : la grille complète n'est jamais en mémoire.</p>
+ *
+ * <p>Les tuiles sont résolues en parallèle sur un pool fork/join. Chaque mot est transmis dès qu'il est
+ * trouvé pour la première fois ; les doublons sont écartés grâce à l'ensemble des noeuds de fin de mot déjà
+ * atteints, dont la taille est bornée par celle du dictionnaire et non par celle de la grille. La mémoire
+ * utilisée ne dépend donc que de la taille des tuiles, du nombre de threads et du dictionnaire.</p>
+ */
+public class TiledBoggle {
+
+	/**
+	 * Source des lettres de la grille.
+	 */
+	@FunctionalInterface
+	public interface LetterSource {
+		/**
+		 * @param row la ligne de la case
+		 * @param col la colonne de la case
+		 * @return la lettre de la case
+		 */
+		char letterAt(int row, int col);
+	}
+
+	/**
+	 * Nombre de lignes et de colonnes de cases de départ par tuile, par défaut.
+	 */
+	public static final int DEFAULT_TILE_SIZE = 64;
+
+	private final int rows;
+	private final int cols;
+	private final LetterSource source;
+	private final LexicographicTree tree;
+	private final int tileSize;
+	private final int halo;
+
+	/**
+	 * Constructeur : crée une grille découpée en tuiles de {@link #DEFAULT_TILE_SIZE} cases de côté.
+	 * @param rows le nombre de lignes de la grille
+	 * @param cols le nombre de colonnes de la grille
+	 * @param source la source des lettres de la grille
+	 * @param dict le dictionnaire des mots autorisés
+	 */
+	public TiledBoggle(int rows, int cols, LetterSource source, LexicographicTree dict) {
+		this(rows, cols, source, dict, DEFAULT_TILE_SIZE);
+	}
+
+	/**
+	 * Constructeur.
+	 * @param rows le nombre de lignes de la grille
+	 * @param cols le nombre de colonnes de la grille
+	 * @param source la source des lettres de la grille
+	 * @param dict le dictionnaire des mots autorisés
+	 * @param tileSize le nombre de lignes et de colonnes de cases de départ par tuile
+	 */
+	public TiledBoggle(int rows, int cols, LetterSource source, LexicographicTree dict, int tileSize) {
+		if (rows < 1 || cols < 1) {
+			throw new IllegalArgumentException("La taille doit être supérieure à 0");
+		}
+		if (tileSize < 1) {
+			throw new IllegalArgumentException("La taille des tuiles doit être supérieure à 0");
+		}
+		this.rows = rows;
+		this.cols = cols;
+		this.source = source;
+		this.tree = dict;
+		this.tileSize = tileSize;
+		TrieNode root = dict.getNode("");
+		this.halo = root == null ? 0 : Math.max(0, BoggleSolver.maxWordLength(root) - 1);
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return la largeur de la bordure ajoutée autour de chaque tuile (longueur du plus long mot, moins un)
+	 */
+	public int getHaloWidth() {
+		return halo;
+	}
+
+	/**
+	 * Cette méthode recherche les mots de la grille et les conserve tous.
+	 * @return l'ensemble des mots trouvés
+	 */
+	public Set<String> solve() {
+		Set<String> words = new HashSet<>();
+		solve(words::add);
+		return words;
+	}
+
+	/**
+	 * Cette méthode recherche les mots de la grille sur le pool fork/join commun, et transmet chaque mot
+	 * à l'action une seule fois, dès qu'il est trouvé.
+	 * @param action l'action appliquée aux mots trouvés (jamais appelée par deux threads à la fois)
+	 */
+	public void solve(Consumer<String> action) {
+		solve(action, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Cette méthode recherche les mots de la grille en résolvant les tuiles en parallèle sur le pool donné,
+	 * et transmet chaque mot à l'action une seule fois, dès qu'il est trouvé.
+	 * @param action l'action appliquée aux mots trouvés (jamais appelée par deux threads à la fois)
+	 * @param pool le pool exécutant les tuiles
+	 */
+	public void solve(Consumer<String> action, ForkJoinPool pool) {
+		Set<TrieNode> foundNodes = Collections.newSetFromMap(new ConcurrentHashMap<>());
+		Consumer<String> serialized = word -> {
+			synchronized (action) {
+				action.accept(word);
+			}
+		};
+		int tileRows = (rows + tileSize - 1) / tileSize;
+		int tileCols = (cols + tileSize - 1) / tileSize;
+		pool.invoke(new TileTask(0, tileRows * tileCols, tileCols, foundNodes, serialized));
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode résout une tuile : ses lettres et celles de sa bordure sont copiées dans une grille
+	 * locale, puis les mots commençant dans la tuile sont recherchés.
+	 * @param tile l'indice de la tuile, ligne par ligne
+	 * @param tileCols le nombre de tuiles par ligne
+	 * @param foundNodes les noeuds des mots déjà trouvés, partagés entre les tuiles
+	 * @param action l'action appliquée aux nouveaux mots
+	 */
+	private void solveTile(int tile, int tileCols, Set<TrieNode> foundNodes, Consumer<String> action) {
+		int rowStart = tile / tileCols * tileSize;
+		int colStart = tile % tileCols * tileSize;
+		int rowEnd = Math.min(rows, rowStart + tileSize);
+		int colEnd = Math.min(cols, colStart + tileSize);
+		// Tuile et bordure, limitées aux bords de la grille
+		int top = Math.max(0, rowStart - halo);
+		int left = Math.max(0, colStart - halo);
+		int height = Math.min(rows, rowEnd + halo) - top;
+		int width = Math.min(cols, colEnd + halo) - left;
+
+		char[] letters = new char[height * width];
+		for (int r = 0; r < height; r++) {
+			for (int c = 0; c < width; c++) {
+				letters[r * width + c] = Character.toLowerCase(source.letterAt(top + r, left + c));
+			}
+		}
+		int[][] tables = BoggleSolver.neighborsOf(height, width);
+		BoggleSolver solver = new BoggleSolver(letters, tables[0], tables[1], tree, foundNodes, action);
+		for (int row = rowStart; row < rowEnd; row++) {
+			for (int col = colStart; col < colEnd; col++) {
+				solver.solveFrom((row - top) * width + col - left);
+			}
+		}
+	}
+
+	/**
+	 * Tâche fork/join résolvant un intervalle de tuiles, coupé en deux jusqu'à ne contenir qu'une tuile.
+	 */
+	private class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int tileCols;
+		private final Set<TrieNode> foundNodes;
+		private final Consumer<String> action;
+
+		TileTask(int from, int to, int tileCols, Set<TrieNode> foundNodes, Consumer<String> action) {
+			this.from = from;
+			this.to = to;
+			this.tileCols = tileCols;
+			this.foundNodes = foundNodes;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				solveTile(from, tileCols, foundNodes, action);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new TileTask(from, middle, tileCols, foundNodes, action),
+					new TileTask(middle, to, tileCols, foundNodes, action));
+		}
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Résout une grille aléatoire de la taille donnée, dont les lettres sont calculées à la demande, et
+	 * affiche la durée, le nombre de mots trouvés et la mémoire utilisée.
+	 */
+	private static void testLargeGrid(int size, LexicographicTree dictionary) {
+		long seed = 42;
+		// Lettre de chaque case tirée d'un générateur initialisé par sa position : la grille n'est pas stockée
+		LetterSource source = (row, col) -> (char) ('a' + new SplittableRandom(seed ^ ((long) row << 32 | col)).nextInt(26));
+		TiledBoggle boggle = new TiledBoggle(size, size, source, dictionary);
+		Runtime runtime = Runtime.getRuntime();
+		long startTime = System.currentTimeMillis();
+		int[] count = new int[1];
+		boggle.solve(word -> count[0]++);
+		long duration = System.currentTimeMillis() - startTime;
+		System.out.println(size + "x" + size + " (tuiles de " + DEFAULT_TILE_SIZE + ", bordure de " + boggle.getHaloWidth()
+				+ ") : " + duration + " ms, " + count[0] + " mots trouvés, mémoire utilisée "
+				+ (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + " Mo");
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) {
+		LexicographicTree dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		for (int size : new int[] { 150, 500, 1000, 2000 }) {
+			testLargeGrid(size, dictionary);
+		}
+	}
+}
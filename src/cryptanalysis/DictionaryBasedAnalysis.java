@@ -13,6 +13,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import tree.AhoCorasickAutomaton;
 import tree.LexicographicTree;
 
 public class DictionaryBasedAnalysis {
@@ -26,6 +27,8 @@ public class DictionaryBasedAnalysis {
 	private final LexicographicTree DICT;
 	private List<String> cryptogramWords;
 	private Set<String> wordsOfCryptogramSplitted;
+	// Tableau réutilisé pour déchiffrer chaque mot lors de l'évaluation d'un alphabet
+	private final char[] decryptedWord;
 
 	/*
 	 * CONSTRUCTOR
@@ -41,6 +44,11 @@ public class DictionaryBasedAnalysis {
 
 		cryptogramWords.sort(Comparator.comparingInt(String::length).reversed());
 		this.DICT = dict;
+		int longestWord = 0;
+		for (String word : wordsOfCryptogramSplitted) {
+			longestWord = Math.max(longestWord, word.length());
+		}
+		this.decryptedWord = new char[longestWord];
 	}
 	
 	/*
@@ -129,6 +137,26 @@ public class DictionaryBasedAnalysis {
 		return sb.toString();
 	}
 	
+	/**
+	 * Cette méthode permet d'appliquer l'alphabet de substitution à un mot du cryptogramme en écrivant
+	 * le résultat dans le tableau donné. Comme {@link #applySubstitution(String, String)}, les caractères
+	 * qui ne sont pas des lettres sont ignorés.
+	 * @param word un mot du cryptogramme
+	 * @param alphabet l'alphabet de substitution
+	 * @param destination le tableau recevant le mot substitué (au moins aussi long que le mot)
+	 * @return le nombre de caractères écrits dans le tableau
+	 */
+	private static int applySubstitution(String word, String alphabet, char[] destination) {
+		int length = 0;
+		for (int i = 0; i < word.length(); i++) {
+			int indexOfTheCharacter = Character.toUpperCase(word.charAt(i)) - 'A';
+			if (indexOfTheCharacter >= 0 && indexOfTheCharacter < 26) {
+				destination[length++] = alphabet.charAt(indexOfTheCharacter);
+			}
+		}
+		return length;
+	}
+	
 	/**
 	 * Cette méthode permet de mettre à jour l'alphabet de substitution inverse basé sur les correspondances
 	 * trouvées entre un mot du cryptogramme et un mot du dictionnaire.
@@ -209,8 +237,10 @@ public class DictionaryBasedAnalysis {
 	private int getDecryptionQuality(String alphabet) {
 	    int score = 0;
 	    for (String wordsInCryptogram : wordsOfCryptogramSplitted) {
-	        String decryptedWord = applySubstitution(wordsInCryptogram, alphabet);
-	        if (DICT.containsWord(decryptedWord.toLowerCase())) {
+	    	// Le mot déchiffré est construit dans un tableau réutilisé et la casse est ignorée
+	    	// lors de la recherche : aucune chaine n'est créée pour chaque mot évalué
+	        int length = applySubstitution(wordsInCryptogram, alphabet, decryptedWord);
+	        if (DICT.containsWord(decryptedWord, 0, length, true)) {
 	            cryptogramWords.remove(wordsInCryptogram);
 	            score++;
 	        }
@@ -263,6 +293,13 @@ public class DictionaryBasedAnalysis {
 		System.out.println("Remaining differences : " + compareAlphabets(DECODING_ALPHABET, finalAlphabet));
 		System.out.println();
 		
+		// Evaluate the alphabets on the whole cryptogram (letters covered by dictionary words)
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(dict);
+		System.out.println("Fitness of start        alphabet : " + automaton.fitness(cryptogram, startAlphabet));
+		System.out.println("Fitness of approximated alphabet : " + automaton.fitness(cryptogram, finalAlphabet));
+		System.out.println("Fitness of decoding     alphabet : " + automaton.fitness(cryptogram, DECODING_ALPHABET));
+		System.out.println();
+		
 		// Display decoded text
 		System.out.println("*** DECODED TEXT ***\n" + applySubstitution(cryptogram, finalAlphabet).substring(0, 200));
 		System.out.println();
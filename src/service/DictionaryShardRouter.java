@@ -0,0 +1,431 @@
+package service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import tree.LexicographicTree;
+
+/**
+ * Client d'un dictionnaire réparti entre plusieurs {@link DictionaryShardServer}, chacun hébergeant les
+ * mots d'un intervalle de l'ordre de l'arbre.
+ *
+ * <p>Les tranches sont décrites par leurs bornes inférieures, croissantes : la tranche i contient les mots
+ * compris entre la borne i (incluse) et la borne i + 1 (exclue), la dernière allant jusqu'à la fin du
+ * dictionnaire. Une recherche n'est envoyée qu'aux tranches pouvant contenir des mots commençant par le
+ * préfixe recherché ; les tranches concernées sont interrogées en parallèle puis leurs réponses sont réunies.
+ * Les intervalles étant disjoints et ordonnés, la réunion dans l'ordre des tranches conserve l'ordre
+ * alphabétique des résultats.</p>
+ *
+ * <p>Les requêtes adressées à une même tranche par {@link #containsWords(List)} sont envoyées en un seul
+ * lot. Une connexion est ouverte par tranche et partagée par les threads appelants. Une connexion sur
+ * laquelle un échange a échoué est fermée, car elle pourrait contenir la fin d'un lot ou d'une réponse
+ * abandonnés : elle est rouverte lors de l'appel suivant.</p>
+ */
+public class DictionaryShardRouter implements Closeable {
+
+	// Longueur maximale, en octets, d'une chaine écrite par DataOutputStream.writeUTF
+	private static final int MAX_UTF_LENGTH = 65535;
+
+	private final String[] lowerBounds;
+	private final ShardConnection[] shards;
+	private final ExecutorService executor;
+
+	/**
+	 * Constructeur : ouvre une connexion vers chaque tranche.
+	 * @param lowerBounds les bornes inférieures des tranches, strictement croissantes, la première étant
+	 * la chaine vide
+	 * @param addresses les adresses des serveurs, dans l'ordre des tranches
+	 * @throws IOException si un serveur ne peut pas être joint
+	 * @throws IllegalArgumentException si les bornes sont invalides
+	 */
+	public DictionaryShardRouter(List<String> lowerBounds, List<InetSocketAddress> addresses) throws IOException {
+		if (lowerBounds.isEmpty() || lowerBounds.size() != addresses.size()) {
+			throw new IllegalArgumentException("Il faut autant de bornes que de serveurs, et au moins un serveur");
+		}
+		if (!lowerBounds.get(0).isEmpty()) {
+			throw new IllegalArgumentException("La première tranche doit commencer au début du dictionnaire");
+		}
+		for (int i = 1; i < lowerBounds.size(); i++) {
+			if (LexicographicTree.TREE_ORDER.compare(lowerBounds.get(i - 1), lowerBounds.get(i)) >= 0) {
+				throw new IllegalArgumentException("Les bornes des tranches doivent être strictement croissantes : " + lowerBounds);
+			}
+		}
+		this.lowerBounds = lowerBounds.toArray(new String[0]);
+		this.shards = new ShardConnection[addresses.size()];
+		try {
+			for (int i = 0; i < shards.length; i++) {
+				shards[i] = new ShardConnection(addresses.get(i));
+			}
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+		this.executor = Executors.newCachedThreadPool(task -> {
+			Thread thread = new Thread(task, "dictionary-router");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Cette méthode permet de déterminer si un mot est présent dans le dictionnaire.
+	 * @param word un mot
+	 * @return true si le mot est présent, false sinon
+	 * @throws UncheckedIOException si le serveur de la tranche ne répond pas
+	 * @throws IllegalArgumentException si le mot est trop long pour être transmis
+	 */
+	public boolean containsWord(String word) {
+		return containsWords(Arrays.asList(word))[0];
+	}
+
+	/**
+	 * Cette méthode permet de déterminer la présence de plusieurs mots. Les mots sont regroupés par tranche :
+	 * chaque serveur concerné reçoit un seul lot, et les serveurs sont interrogés en parallèle.
+	 * @param words des mots
+	 * @return pour chaque mot, dans le même ordre, true s'il est présent
+	 * @throws UncheckedIOException si un serveur ne répond pas
+	 * @throws IllegalArgumentException si un mot est trop long pour être transmis
+	 */
+	public boolean[] containsWords(List<String> words) {
+		for (String word : words) {
+			checkLength(word);
+		}
+		List<List<Integer>> indices = new ArrayList<>();
+		for (int i = 0; i < shards.length; i++) {
+			indices.add(new ArrayList<>());
+		}
+		for (int i = 0; i < words.size(); i++) {
+			indices.get(shardOf(words.get(i))).add(i);
+		}
+		boolean[] found = new boolean[words.size()];
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < shards.length; i++) {
+			List<Integer> batch = indices.get(i);
+			if (batch.isEmpty()) {
+				continue;
+			}
+			ShardConnection shard = shards[i];
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					shard.containsWords(words, batch, found);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}, executor));
+		}
+		join(futures);
+		return found;
+	}
+
+	/**
+	 * Cette méthode retourne, dans l'ordre alphabétique, les mots commençant par un préfixe. Seules les
+	 * tranches pouvant contenir de tels mots sont interrogées.
+	 * @param prefix un préfixe (chaine vide pour tous les mots)
+	 * @return la liste des mots commençant par ce préfixe
+	 * @throws UncheckedIOException si un serveur ne répond pas
+	 * @throws IllegalArgumentException si le préfixe est trop long pour être transmis
+	 */
+	public List<String> getWords(String prefix) {
+		checkLength(prefix);
+		return gather(DictionaryShardServer.GET_WORDS, prefix, 0);
+	}
+
+	/**
+	 * Cette méthode retourne, dans l'ordre alphabétique, les mots d'une longueur donnée, en interrogeant
+	 * toutes les tranches.
+	 * @param length la longueur des mots souhaités
+	 * @return la liste des mots de cette longueur
+	 * @throws UncheckedIOException si un serveur ne répond pas
+	 */
+	public List<String> getWordsOfLength(int length) {
+		return gather(DictionaryShardServer.GET_WORDS_OF_LENGTH, "", length);
+	}
+
+	/**
+	 * Ferme les connexions vers les serveurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		for (ShardConnection shard : shards) {
+			if (shard != null) {
+				shard.close();
+			}
+		}
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode vérifie, avant tout envoi, qu'une chaine peut être transmise par
+	 * {@link DataOutputStream#writeUTF(String)} (au plus 65535 octets en UTF-8 modifié).
+	 * @param word un mot ou un préfixe
+	 * @throws IllegalArgumentException si la chaine est trop longue
+	 */
+	private static void checkLength(String word) {
+		long length = 0;
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			length += c >= 0x01 && c <= 0x7F ? 1 : c <= 0x7FF ? 2 : 3;
+		}
+		if (length > MAX_UTF_LENGTH) {
+			throw new IllegalArgumentException("Chaine trop longue pour être transmise : " + length + " octets");
+		}
+	}
+
+	/**
+	 * @param word un mot
+	 * @return l'indice de la tranche contenant ce mot
+	 */
+	private int shardOf(String word) {
+		int index = 0;
+		while (index + 1 < lowerBounds.length && LexicographicTree.TREE_ORDER.compare(lowerBounds[index + 1], word) <= 0) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Une tranche peut contenir des mots commençant par le préfixe si elle ne se termine pas avant lui, et si
+	 * elle commence avant lui ou par un mot commençant par lui : sinon sa borne inférieure diffère du préfixe
+	 * par un caractère plus grand, et elle ne contient que des mots plus grands que tous ceux recherchés.
+	 * @param index l'indice d'une tranche
+	 * @param prefix un préfixe
+	 * @return true si la tranche peut contenir des mots commençant par le préfixe
+	 */
+	private boolean mayContainPrefix(int index, String prefix) {
+		String from = lowerBounds[index];
+		boolean endsAfter = index + 1 == lowerBounds.length
+				|| LexicographicTree.TREE_ORDER.compare(prefix, lowerBounds[index + 1]) < 0;
+		return endsAfter && (LexicographicTree.TREE_ORDER.compare(from, prefix) <= 0 || from.startsWith(prefix));
+	}
+
+	/**
+	 * Cette méthode envoie une recherche aux tranches concernées, en parallèle, et réunit leurs réponses
+	 * dans l'ordre des tranches.
+	 */
+	private List<String> gather(byte operation, String prefix, int length) {
+		List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+		for (int i = 0; i < shards.length; i++) {
+			if (mayContainPrefix(i, prefix)) {
+				ShardConnection shard = shards[i];
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return shard.getWords(operation, prefix, length);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, executor));
+			}
+		}
+		join(futures);
+		List<String> words = new ArrayList<>();
+		for (CompletableFuture<List<String>> future : futures) {
+			words.addAll(future.join());
+		}
+		return words;
+	}
+
+	private static void join(List<? extends CompletableFuture<?>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Connexion vers le serveur d'une tranche. Les lots sont envoyés l'un après l'autre : un lot et sa
+	 * réponse ne sont jamais entrelacés avec ceux d'un autre thread. Si un échange échoue, la connexion
+	 * est fermée et sera rouverte par l'échange suivant.
+	 */
+	private static class ShardConnection {
+		private final InetSocketAddress address;
+		private Socket socket;
+		private DataInputStream in;
+		private DataOutputStream out;
+		private boolean closed;
+
+		private ShardConnection(InetSocketAddress address) throws IOException {
+			this.address = address;
+			connect();
+		}
+
+		private synchronized void containsWords(List<String> words, List<Integer> batch, boolean[] found) throws IOException {
+			ensureConnected();
+			try {
+				out.writeInt(batch.size());
+				for (int index : batch) {
+					out.writeByte(DictionaryShardServer.CONTAINS_WORD);
+					out.writeUTF(words.get(index));
+				}
+				out.flush();
+				for (int index : batch) {
+					found[index] = in.readBoolean();
+				}
+			} catch (IOException | RuntimeException e) {
+				disconnect();
+				throw e;
+			}
+		}
+
+		private synchronized List<String> getWords(byte operation, String prefix, int length) throws IOException {
+			ensureConnected();
+			try {
+				out.writeInt(1);
+				out.writeByte(operation);
+				if (operation == DictionaryShardServer.GET_WORDS) {
+					out.writeUTF(prefix);
+				} else {
+					out.writeInt(length);
+				}
+				out.flush();
+				int count = in.readInt();
+				List<String> words = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					words.add(in.readUTF());
+				}
+				return words;
+			} catch (IOException | RuntimeException e) {
+				disconnect();
+				throw e;
+			}
+		}
+
+		private synchronized void close() throws IOException {
+			closed = true;
+			if (socket != null) {
+				socket.close();
+				socket = null;
+			}
+		}
+
+		private void connect() throws IOException {
+			Socket connection = new Socket(address.getAddress(), address.getPort());
+			connection.setTcpNoDelay(true);
+			this.in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+			this.out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+			this.socket = connection;
+		}
+
+		private void ensureConnected() throws IOException {
+			if (closed) {
+				throw new IOException("Le routeur est fermé");
+			}
+			if (socket == null) {
+				connect();
+			}
+		}
+
+		/**
+		 * Cette méthode ferme une connexion dont l'état n'est plus connu (lot partiellement envoyé ou réponse
+		 * partiellement lue).
+		 */
+		private void disconnect() {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// La connexion est abandonnée de toute façon
+			}
+			socket = null;
+			in = null;
+			out = null;
+		}
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Lance un serveur par tranche, chacun dans son propre processus, puis compare les réponses du routeur
+	 * à celles d'un arbre local.
+	 */
+	private static void testLocalProcesses(String filename, List<String> lowerBounds) throws IOException, InterruptedException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		List<Process> processes = new ArrayList<>();
+		List<InetSocketAddress> addresses = new ArrayList<>();
+		try {
+			for (int i = 0; i < lowerBounds.size(); i++) {
+				String to = i + 1 < lowerBounds.size() ? lowerBounds.get(i + 1) : "-";
+				Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+						DictionaryShardServer.class.getName(), filename, lowerBounds.get(i), to, "0")
+						.redirectError(ProcessBuilder.Redirect.INHERIT).start();
+				processes.add(process);
+			}
+			for (Process process : processes) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+				String line = reader.readLine();
+				if (line == null || !line.startsWith("ready ")) {
+					throw new IOException("Le serveur n'a pas démarré : " + line);
+				}
+				addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(line.substring(6))));
+			}
+
+			LexicographicTree dictionary = new LexicographicTree(filename);
+			try (DictionaryShardRouter router = new DictionaryShardRouter(lowerBounds, addresses)) {
+				List<String> words = dictionary.getWordsOfLength(8);
+				long startTime = System.nanoTime();
+				boolean[] found = router.containsWords(words);
+				long batched = System.nanoTime() - startTime;
+				int count = 0;
+				for (boolean b : found) {
+					count += b ? 1 : 0;
+				}
+				System.out.println("Recherche groupée de " + words.size() + " mots : " + count + " trouvés en " + batched / 1000000 + " ms");
+
+				startTime = System.nanoTime();
+				for (int i = 0; i < 1000; i++) {
+					router.containsWord(words.get(i));
+				}
+				System.out.println("1000 recherches individuelles : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+
+				for (String prefix : new String[] { "", "ab", "ma", "z" }) {
+					System.out.println("Préfixe \"" + prefix + "\" : " + router.getWords(prefix).equals(dictionary.getWords(prefix)));
+				}
+				System.out.println("Longueur 5 : " + router.getWordsOfLength(5).equals(dictionary.getWordsOfLength(5)));
+			}
+		} finally {
+			for (Process process : processes) {
+				process.destroy();
+			}
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		testLocalProcesses("mots/dictionnaire_FR_sans_accents.txt", Arrays.asList("", "d", "l", "r"));
+	}
+}
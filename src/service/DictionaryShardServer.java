@@ -0,0 +1,184 @@
+package service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import tree.LexicographicTree;
+
+/**
+ * Serveur hébergeant une tranche de dictionnaire : les mots compris entre deux bornes, dans l'ordre de
+ * l'arbre. Le serveur écoute sur l'interface locale et répond aux requêtes d'un {@link DictionaryShardRouter}.
+ *
+ * <p>Protocole binaire : le client envoie des lots de requêtes, sous la forme du nombre de requêtes suivi de
+ * chaque requête (un octet d'opération puis son argument). Le serveur répond à toutes les requêtes du lot,
+ * dans l'ordre, avant de vider son tampon : un lot ne coûte qu'un aller-retour, quel que soit le nombre de
+ * requêtes. Une connexion sert autant de lots que nécessaire.</p>
+ * <ul>
+ * <li>{@link #CONTAINS_WORD} : un mot (UTF) ; réponse : un booléen</li>
+ * <li>{@link #GET_WORDS} : un préfixe (UTF) ; réponse : le nombre de mots, puis les mots (UTF)</li>
+ * <li>{@link #GET_WORDS_OF_LENGTH} : une longueur (int) ; réponse : le nombre de mots, puis les mots (UTF)</li>
+ * </ul>
+ */
+public class DictionaryShardServer implements Closeable {
+
+	// Opérations du protocole
+	static final byte CONTAINS_WORD = 1;
+	static final byte GET_WORDS = 2;
+	static final byte GET_WORDS_OF_LENGTH = 3;
+
+	private final LexicographicTree shard;
+	private final ServerSocket serverSocket;
+	private final ExecutorService connections;
+
+	/**
+	 * Constructeur : ouvre le port et commence à accepter les connexions.
+	 * @param shard l'arbre contenant les mots de la tranche
+	 * @param port le port d'écoute (0 pour un port libre choisi par le système)
+	 * @throws IOException si le port ne peut pas être ouvert
+	 */
+	public DictionaryShardServer(LexicographicTree shard, int port) throws IOException {
+		this.shard = shard;
+		this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		this.connections = Executors.newCachedThreadPool(task -> {
+			Thread thread = new Thread(task, "dictionary-shard-" + serverSocket.getLocalPort());
+			thread.setDaemon(true);
+			return thread;
+		});
+		connections.execute(this::accept);
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return le port d'écoute du serveur
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Cette méthode construit la tranche d'un dictionnaire comprise entre deux bornes.
+	 * @param dictionary le dictionnaire complet
+	 * @param from la borne inférieure, incluse (chaine vide pour le début du dictionnaire)
+	 * @param to la borne supérieure, exclue (null pour la fin du dictionnaire)
+	 * @return un nouvel arbre contenant les mots de la tranche
+	 */
+	public static LexicographicTree shardOf(LexicographicTree dictionary, String from, String to) {
+		LexicographicTree shard = new LexicographicTree();
+		if (to == null) {
+			dictionary.streamWords("").filter(word -> LexicographicTree.TREE_ORDER.compare(word, from) >= 0)
+					.forEach(shard::insertWord);
+		} else if (LexicographicTree.TREE_ORDER.compare(from, to) < 0) {
+			dictionary.range(from, to).forEach(shard::insertWord);
+		}
+		return shard;
+	}
+
+	/**
+	 * Ferme le port d'écoute et les connexions en cours.
+	 */
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		connections.shutdownNow();
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connections.execute(() -> serve(socket));
+			} catch (IOException e) {
+				// Port fermé par close()
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode répond aux lots de requêtes d'une connexion, jusqu'à sa fermeture par le client.
+	 * @param socket la connexion
+	 */
+	private void serve(Socket socket) {
+		try (Socket s = socket;
+				DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()))) {
+			s.setTcpNoDelay(true);
+			while (true) {
+				int count;
+				try {
+					count = in.readInt();
+				} catch (EOFException e) {
+					return;
+				}
+				for (int i = 0; i < count; i++) {
+					byte operation = in.readByte();
+					switch (operation) {
+					case CONTAINS_WORD:
+						out.writeBoolean(shard.containsWord(in.readUTF()));
+						break;
+					case GET_WORDS:
+						writeWords(out, shard.getWords(in.readUTF()));
+						break;
+					case GET_WORDS_OF_LENGTH:
+						writeWords(out, shard.getWordsOfLength(in.readInt()));
+						break;
+					default:
+						throw new IOException("Opération inconnue : " + operation);
+					}
+				}
+				out.flush();
+			}
+		} catch (IOException e) {
+			if (!serverSocket.isClosed()) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static void writeWords(DataOutputStream out, List<String> words) throws IOException {
+		out.writeInt(words.size());
+		for (String word : words) {
+			out.writeUTF(word);
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	/**
+	 * Lance un serveur dans ce processus.
+	 * Arguments : fichier du dictionnaire, borne inférieure, borne supérieure ("-" pour la fin du
+	 * dictionnaire), port (0 pour un port libre). Le port choisi est affiché sur la sortie standard
+	 * ("ready &lt;port&gt;") lorsque le serveur est prêt.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length != 4) {
+			System.out.println("Usage : DictionaryShardServer <dictionnaire> <de> <à|-> <port>");
+			return;
+		}
+		LexicographicTree dictionary = new LexicographicTree(args[0]);
+		String to = args[2].equals("-") ? null : args[2];
+		DictionaryShardServer server = new DictionaryShardServer(shardOf(dictionary, args[1], to), Integer.parseInt(args[3]));
+		System.out.println("ready " + server.getPort());
+		System.out.flush();
+		Thread.currentThread().join();
+	}
+}
@@ -0,0 +1,173 @@
+package tree;
+
+/**
+ * Partie commune de {@link TrieMap}, {@link IntTrieMap} et {@link LongTrieMap}.
+ *
+ * <p>Les clés sont rangées dans des {@link TrieNode}, comme les mots d'un {@link LexicographicTree} :
+ * les préfixes communs ne sont stockés qu'une fois et aucune clé n'est hachée. Le noeud d'une clé
+ * ne contient pas la valeur elle-même mais sa position dans les tableaux de valeurs de la sous-classe,
+ * ce qui permet de stocker des valeurs primitives sans les emballer dans des objets.</p>
+ *
+ * <p>Contrairement à {@link LexicographicTree#insertWord(String)}, qui ignore les caractères inconnus,
+ * une clé contenant un caractère autre qu'une lettre minuscule, le tiret ou l'apostrophe est refusée :
+ * deux clés différentes ne doivent pas désigner la même valeur.</p>
+ */
+abstract class AbstractTrieMap {
+
+	/**
+	 * Action appliquée à chaque clé présente, avec la position de sa valeur.
+	 */
+	@FunctionalInterface
+	interface SlotConsumer {
+		void accept(String key, int slot);
+	}
+
+	private final TrieNode root = new TrieNode();
+	private int size;
+	private int slotCount;
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return le nombre de clés présentes
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param key une clé
+	 * @return true si une valeur est associée à la clé, false sinon
+	 * @throws IllegalArgumentException si la clé contient un caractère invalide
+	 */
+	public boolean containsKey(String key) {
+		return slotOf(key) >= 0;
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	/**
+	 * Cette méthode retourne la position de la valeur associée à une clé.
+	 * @param key une clé
+	 * @return la position de la valeur, ou -1 si la clé est absente
+	 */
+	int slotOf(String key) {
+		TrieNode node = root;
+		for (int i = 0; i < key.length(); i++) {
+			char c = checkChar(key, i);
+			node = node == null ? null : node.getChild(c);
+		}
+		return node != null && node.isWord() ? node.getSlot() : -1;
+	}
+
+	/**
+	 * Cette méthode retourne la position de la valeur associée à une clé, en ajoutant la clé si nécessaire.
+	 * Une nouvelle clé reçoit une nouvelle position : {@link #ensureCapacity(int)} est appelée auparavant.
+	 * @param key une clé
+	 * @return la position de la valeur, ou le complément binaire de cette position (~slot, négatif)
+	 * si la clé vient d'être ajoutée
+	 */
+	int addSlot(String key) {
+		TrieNode node = root;
+		for (int i = 0; i < key.length(); i++) {
+			char c = checkChar(key, i);
+			TrieNode child = node.getChild(c);
+			if (child == null) {
+				child = new TrieNode();
+				node.setChild(c, child);
+			}
+			node = child;
+		}
+		if (node.isWord()) {
+			return node.getSlot();
+		}
+		if (node.getSlot() < 0) {
+			ensureCapacity(slotCount + 1);
+			node.setSlot(slotCount++);
+		}
+		node.setIsWord(true);
+		size++;
+		return ~node.getSlot();
+	}
+
+	/**
+	 * Cette méthode permet de retirer une clé. Sa position reste attachée à son noeud et sera réutilisée
+	 * si la clé est ajoutée à nouveau.
+	 * @param key une clé
+	 * @return la position de la valeur de la clé retirée, ou -1 si la clé était absente
+	 */
+	int removeSlot(String key) {
+		TrieNode node = root;
+		for (int i = 0; i < key.length(); i++) {
+			char c = checkChar(key, i);
+			node = node == null ? null : node.getChild(c);
+		}
+		if (node == null || !node.isWord()) {
+			return -1;
+		}
+		node.setIsWord(false);
+		size--;
+		return node.getSlot();
+	}
+
+	/**
+	 * Cette méthode permet de parcourir, dans l'ordre de l'arbre, les clés commençant par un préfixe.
+	 * @param prefix le préfixe des clés (chaine vide pour toutes les clés)
+	 * @param action l'action appliquée à chaque clé
+	 */
+	void forEachSlot(String prefix, SlotConsumer action) {
+		TrieNode node = root;
+		for (int i = 0; i < prefix.length(); i++) {
+			char c = checkChar(prefix, i);
+			node = node == null ? null : node.getChild(c);
+		}
+		if (node != null) {
+			forEachSlot(node, new StringBuilder(prefix), action);
+		}
+	}
+
+	/**
+	 * Cette méthode permet d'agrandir les tableaux de valeurs.
+	 * @param capacity le nombre de positions nécessaires
+	 */
+	abstract void ensureCapacity(int capacity);
+
+	/**
+	 * @param length la taille actuelle d'un tableau de valeurs
+	 * @param capacity le nombre de positions nécessaires
+	 * @return la nouvelle taille du tableau (au moins doublée)
+	 */
+	static int grow(int length, int capacity) {
+		return Math.max(capacity, Math.max(16, length * 2));
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static char checkChar(String key, int i) {
+		char c = key.charAt(i);
+		if (!(c >= 'a' && c <= 'z' || c == '-' || c == '\'')) {
+			throw new IllegalArgumentException("Caractère invalide '" + c + "' dans la clé : " + key);
+		}
+		return c;
+	}
+
+	private static void forEachSlot(TrieNode node, StringBuilder key, SlotConsumer action) {
+		if (node.isWord()) {
+			action.accept(key.toString(), node.getSlot());
+		}
+		TrieNode[] children = node.getChildren();
+		for (int i = 0; children != null && i < children.length; i++) {
+			if (children[i] != null) {
+				key.append(node.indexToChar(i));
+				forEachSlot(children[i], key, action);
+				key.setLength(key.length() - 1);
+			}
+		}
+	}
+}
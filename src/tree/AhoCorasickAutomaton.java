@@ -0,0 +1,287 @@
+package tree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+/**
+ * Automate d'Aho-Corasick construit à partir d'un dictionnaire : il trouve, en un seul passage sur le texte,
+ * toutes les occurrences de tous les mots du dictionnaire, y compris celles qui se chevauchent.
+ *
+ * <p>Les états de l'automate sont les noeuds de l'arbre, numérotés en largeur. Tout est stocké dans des
+ * tableaux d'entiers : pour chaque état, un masque des caractères ayant un enfant (et la marque de fin de
+ * mot), le numéro du premier enfant (les enfants d'un état ont des numéros consécutifs grâce au parcours
+ * en largeur), le lien d'échec (le plus long suffixe propre qui est aussi un préfixe du dictionnaire) et le
+ * lien de sortie (le plus long suffixe propre qui est un mot). Le parcours du texte ne crée donc aucun objet,
+ * et chaque occurrence est signalée à un {@link MatchListener} par ses positions.</p>
+ *
+ * <p>Comme pour {@link WordSegmenter}, la casse et les accents du texte sont ignorés ; les autres caractères
+ * (espaces, ponctuation, chiffres) séparent les mots.</p>
+ */
+public class AhoCorasickAutomaton {
+
+	/**
+	 * Observateur recevant chaque occurrence d'un mot du dictionnaire trouvée dans le texte.
+	 */
+	@FunctionalInterface
+	public interface MatchListener {
+		/**
+		 * @param start la position du premier caractère de l'occurrence dans le texte
+		 * @param end la position suivant le dernier caractère de l'occurrence
+		 */
+		void onMatch(int start, int end);
+	}
+
+	private static final int ALPHABET_SIZE = 28;
+	private static final int WORD_FLAG = 1 << ALPHABET_SIZE;
+	private static final int CHILDREN_MASK = WORD_FLAG - 1;
+	private static final int NONE = -1;
+	// Longueur minimale des mots pris en compte par la fonction d'évaluation
+	private static final int MIN_FITNESS_LENGTH = 3;
+
+	// Caractères ayant un enfant (bits 0 à 27) et marque de fin de mot (bit 28)
+	private final int[] masks;
+	// Numéro du premier enfant
+	private final int[] firstChild;
+	private final int[] fail;
+	// Etat final suivant sur la chaine des liens d'échec (NONE s'il n'y en a pas)
+	private final int[] output;
+	private final int[] depth;
+	private final int maxDepth;
+
+	/**
+	 * Constructeur : compile l'automate à partir des mots présents dans l'arbre.
+	 * @param dictionary le dictionnaire
+	 */
+	public AhoCorasickAutomaton(LexicographicTree dictionary) {
+		TrieNode root = dictionary.getRoot() != null ? dictionary.getRoot() : new TrieNode();
+		int stateCount = countNodes(root);
+		masks = new int[stateCount];
+		firstChild = new int[stateCount];
+		fail = new int[stateCount];
+		output = new int[stateCount];
+		depth = new int[stateCount];
+
+		// Parcours en largeur : la file contient les noeuds dans l'ordre de leur numéro
+		TrieNode[] queue = new TrieNode[stateCount];
+		queue[0] = root;
+		output[0] = NONE;
+		int last = 1;
+		int deepest = 0;
+		for (int state = 0; state < stateCount; state++) {
+			TrieNode node = queue[state];
+			int mask = node.isWord() ? WORD_FLAG : 0;
+			firstChild[state] = last;
+			TrieNode[] children = node.getChildren();
+			for (int index = 0; children != null && index < children.length; index++) {
+				if (children[index] == null) {
+					continue;
+				}
+				mask |= 1 << index;
+				int child = last++;
+				queue[child] = children[index];
+				depth[child] = depth[state] + 1;
+				deepest = Math.max(deepest, depth[child]);
+			}
+			masks[state] = mask;
+			queue[state] = null;
+		}
+		maxDepth = deepest;
+
+		// Les liens d'un état ne dépendent que d'états moins profonds, déjà traités dans l'ordre de numérotation
+		for (int state = 0; state < stateCount; state++) {
+			int children = masks[state] & CHILDREN_MASK;
+			for (int child = firstChild[state]; children != 0; child++) {
+				int index = Integer.numberOfTrailingZeros(children);
+				children &= children - 1;
+				int target = state == 0 ? 0 : transition(fail[state], index);
+				fail[child] = target;
+				output[child] = (masks[target] & WORD_FLAG) != 0 ? target : output[target];
+			}
+		}
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return le nombre d'états de l'automate
+	 */
+	public int getStateCount() {
+		return masks.length;
+	}
+
+	/**
+	 * Cette méthode permet de parcourir un texte et de signaler chaque occurrence d'un mot du dictionnaire.
+	 * Les occurrences sont signalées dans l'ordre de leur fin, et de la plus longue à la plus courte pour
+	 * une même fin.
+	 * @param text le texte à parcourir
+	 * @param listener l'observateur recevant les occurrences
+	 */
+	public void scan(CharSequence text, MatchListener listener) {
+		scan(text, null, listener);
+	}
+
+	/**
+	 * Cette méthode permet de parcourir un cryptogramme en lui appliquant un alphabet de substitution au
+	 * fil de la lecture, sans construire le texte déchiffré. Comme pour
+	 * {@code DictionaryBasedAnalysis.applySubstitution}, les espaces et retours à la ligne séparent les mots
+	 * et les autres caractères qui ne sont pas des lettres sont ignorés.
+	 * @param cryptogram le texte chiffré
+	 * @param alphabet l'alphabet de substitution (la lettre remplaçant 'A', puis 'B', ...)
+	 * @param listener l'observateur recevant les occurrences (positions dans le cryptogramme)
+	 */
+	public void scan(CharSequence cryptogram, String alphabet, MatchListener listener) {
+		int state = 0;
+		int step = 0;
+		// Position dans le texte des derniers caractères lus, pour retrouver le début des occurrences
+		int[] origins = new int[maxDepth + 1];
+		for (int i = 0, length = cryptogram.length(); i < length; i++) {
+			char c = cryptogram.charAt(i);
+			if (alphabet != null) {
+				int letter = Character.toUpperCase(c) - 'A';
+				if (letter >= 0 && letter < 26) {
+					c = alphabet.charAt(letter);
+				} else if (c != ' ' && c != '\n') {
+					continue;
+				}
+			}
+			int index = indexOf(c);
+			String folded = null;
+			if (index < 0 && c > 0x7F) {
+				folded = DictionaryLoader.foldAccent(c);
+			}
+			if (index < 0 && folded == null) {
+				// Séparateur : aucun mot ne le traverse
+				state = 0;
+				continue;
+			}
+			int count = folded == null ? 1 : folded.length();
+			for (int k = 0; k < count; k++) {
+				if (folded != null) {
+					index = indexOf(folded.charAt(k));
+				}
+				origins[step++ % origins.length] = i;
+				state = transition(state, index);
+			}
+			int match = (masks[state] & WORD_FLAG) != 0 ? state : output[state];
+			for (; match != NONE; match = output[match]) {
+				listener.onMatch(origins[(step - depth[match]) % origins.length], i + 1);
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode retourne le nombre d'occurrences des mots du dictionnaire dans le texte.
+	 * @param text le texte à parcourir
+	 * @return le nombre d'occurrences, chevauchements compris
+	 */
+	public int countMatches(CharSequence text) {
+		int[] count = new int[1];
+		scan(text, (start, end) -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * Fonction d'évaluation d'un alphabet de déchiffrement : nombre de lettres du cryptogramme couvertes,
+	 * une fois déchiffrées, par au moins une occurrence d'un mot d'au moins trois lettres. Les mots plus
+	 * courts, qui apparaissent souvent par hasard dans un texte mal déchiffré, ne sont pas comptés.
+	 * @param cryptogram le texte chiffré
+	 * @param alphabet l'alphabet de substitution évalué
+	 * @return le nombre de lettres couvertes (plus il est élevé, meilleur est l'alphabet)
+	 */
+	public int fitness(CharSequence cryptogram, String alphabet) {
+		// Une occurrence qui se termine plus loin peut aussi commencer avant les précédentes : la réunion
+		// des intervalles est obtenue en marquant chaque position couverte
+		BitSet covered = new BitSet(cryptogram.length());
+		scan(cryptogram, alphabet, (start, end) -> {
+			if (end - start >= MIN_FITNESS_LENGTH) {
+				covered.set(start, end);
+			}
+		});
+		return covered.cardinality();
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static int indexOf(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		} else if (c >= 'A' && c <= 'Z') {
+			return c - 'A';
+		} else if (c == '-') {
+			return 26;
+		} else if (c == '\'') {
+			return 27;
+		}
+		return -1;
+	}
+
+	/**
+	 * Cette méthode retourne l'état atteint en lisant un caractère, en suivant les liens d'échec
+	 * tant que l'état courant n'a pas d'enfant pour ce caractère.
+	 * @param state l'état courant
+	 * @param index l'indice du caractère lu
+	 * @return l'état atteint
+	 */
+	private int transition(int state, int index) {
+		int bit = 1 << index;
+		while (true) {
+			int mask = masks[state];
+			if ((mask & bit) != 0) {
+				return firstChild[state] + Integer.bitCount(mask & (bit - 1));
+			} else if (state == 0) {
+				return 0;
+			}
+			state = fail[state];
+		}
+	}
+
+	private static int countNodes(TrieNode node) {
+		int count = 1;
+		TrieNode[] children = node.getChildren();
+		if (children != null) {
+			for (TrieNode child : children) {
+				if (child != null) {
+					count += countNodes(child);
+				}
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Compile le dictionnaire puis recherche tous ses mots dans le texte de "Plus fort que Sherlock Holmes".
+	 */
+	private static void testScanPerformance(String dictionaryFile, String textFile) throws IOException {
+		LexicographicTree dictionary = new LexicographicTree(dictionaryFile);
+		long startTime = System.currentTimeMillis();
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(dictionary);
+		System.out.println(automaton.getStateCount() + " états compilés en "
+				+ (System.currentTimeMillis() - startTime) / 1000.0 + " s");
+		String text = Files.readString(Paths.get(textFile), StandardCharsets.UTF_8);
+		for (int i = 0; i < 5; i++) {
+			startTime = System.currentTimeMillis();
+			int matches = automaton.countMatches(text);
+			System.out.println(matches + " occurrences trouvées dans " + text.length() + " caractères en "
+					+ (System.currentTimeMillis() - startTime) / 1000.0 + " s");
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) throws IOException {
+		testScanPerformance("mots/dictionnaire_FR_sans_accents.txt", "txt/Plus fort que Sherlock Holmes.txt");
+	}
+}
@@ -0,0 +1,252 @@
+package tree;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * Détenteur d'un dictionnaire rechargé à chaud lorsque son fichier source est modifié.
+ *
+ * <p>Le fichier est surveillé avec un {@link WatchService}. Lorsqu'il change, un nouveau
+ * {@link LexicographicTree} est construit en arrière-plan puis remplace l'ancien de manière
+ * atomique. Les traitements en cours ({@code Boggle}, {@code DictionaryBasedAnalysis}, ...)
+ * conservent la référence de l'arbre qu'ils ont reçu : ils terminent donc leur travail sur
+ * l'ancienne version, tandis que les nouveaux traitements obtiennent la nouvelle via {@link #get()}.</p>
+ *
+ * <p>La somme de contrôle CRC32 du fichier est calculée à chaque chargement : un fichier dont le contenu
+ * n'a pas changé depuis le dernier chargement n'est pas rechargé, que le rechargement soit demandé par la
+ * surveillance ou explicitement.</p>
+ */
+public class DictionaryHolder implements Closeable {
+
+	/**
+	 * Observateur notifié après chaque rechargement réussi du dictionnaire.
+	 */
+	@FunctionalInterface
+	public interface ReloadListener {
+		/**
+		 * @param dictionary le nouveau dictionnaire
+		 * @param durationMillis la durée de construction du nouveau dictionnaire, en millisecondes
+		 * @param wordCountDelta la différence du nombre de mots par rapport au dictionnaire précédent
+		 */
+		void onReload(LexicographicTree dictionary, long durationMillis, int wordCountDelta);
+	}
+
+	// Délai permettant de regrouper les événements successifs émis lors d'une même écriture du fichier
+	private static final long DEBOUNCE_MILLIS = 100;
+
+	private final Path source;
+	private final DictionaryLoader loader;
+	private final AtomicReference<LexicographicTree> current;
+	private final List<ReloadListener> listeners = new CopyOnWriteArrayList<>();
+	private final AtomicBoolean reloadPending = new AtomicBoolean(false);
+	private final ExecutorService reloader;
+	private final WatchService watcher;
+	private final Thread watchThread;
+	private volatile long lastReloadDuration;
+	// Somme de contrôle du contenu du fichier lors du dernier chargement
+	private volatile long loadedChecksum;
+	private volatile int lastWordCountDelta;
+
+	/**
+	 * Constructeur : charge le dictionnaire puis commence à surveiller son fichier source.
+	 * @param filename le fichier contenant les mots du dictionnaire
+	 * @throws IOException si le fichier ne peut pas être lu ou surveillé
+	 */
+	public DictionaryHolder(String filename) throws IOException {
+		this(filename, false);
+	}
+
+	/**
+	 * Constructeur : charge le dictionnaire puis commence à surveiller son fichier source.
+	 * @param filename le fichier contenant les mots du dictionnaire
+	 * @param withSuffixIndex true pour construire également l'index des suffixes à chaque chargement
+	 * @throws IOException si le fichier ne peut pas être lu ou surveillé
+	 */
+	public DictionaryHolder(String filename, boolean withSuffixIndex) throws IOException {
+		this.source = Paths.get(filename).toAbsolutePath();
+		this.loader = new DictionaryLoader(StandardCharsets.UTF_8, withSuffixIndex);
+		long startTime = System.currentTimeMillis();
+		CRC32 checksum = new CRC32();
+		this.current = new AtomicReference<>(load(checksum));
+		this.loadedChecksum = checksum.getValue();
+		this.lastReloadDuration = System.currentTimeMillis() - startTime;
+
+		this.reloader = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "dictionary-reloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.watcher = source.getFileSystem().newWatchService();
+		source.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY);
+		this.watchThread = new Thread(this::watch, "dictionary-watcher");
+		this.watchThread.setDaemon(true);
+		this.watchThread.start();
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Retourne la version courante du dictionnaire. L'appelant doit conserver la référence
+	 * obtenue pour toute la durée de son traitement afin de travailler sur une version cohérente.
+	 * @return le dictionnaire courant
+	 */
+	public LexicographicTree get() {
+		return current.get();
+	}
+
+	/**
+	 * Cette méthode permet de demander un rechargement du dictionnaire en arrière-plan,
+	 * indépendamment de la surveillance du fichier. Si le contenu du fichier n'a pas changé depuis le
+	 * dernier chargement, le dictionnaire en place est conservé.
+	 * @return une tâche complétée avec le dictionnaire en place une fois le rechargement terminé
+	 */
+	public CompletableFuture<LexicographicTree> reload() {
+		reloadPending.set(true);
+		return CompletableFuture.supplyAsync(this::reloadNow, reloader);
+	}
+
+	/**
+	 * @return la durée, en millisecondes, du dernier chargement du dictionnaire
+	 */
+	public long getLastReloadDuration() {
+		return lastReloadDuration;
+	}
+
+	/**
+	 * @return la différence du nombre de mots entre le dernier dictionnaire chargé et le précédent
+	 */
+	public int getLastWordCountDelta() {
+		return lastWordCountDelta;
+	}
+
+	/**
+	 * Cette méthode permet d'ajouter un observateur notifié après chaque rechargement.
+	 * @param listener l'observateur à ajouter
+	 */
+	public void addReloadListener(ReloadListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Arrête la surveillance du fichier. Le dictionnaire courant reste utilisable.
+	 */
+	@Override
+	public void close() throws IOException {
+		watcher.close();
+		// La boucle de surveillance doit être terminée avant l'arrêt de l'exécuteur auquel elle confie les rechargements
+		try {
+			watchThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		reloader.shutdownNow();
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode permet de charger le fichier source, en calculant la somme de contrôle des octets lus
+	 * par le chargement lui-même : une modification pendant le chargement sera donc détectée.
+	 * @param checksum la somme de contrôle à calculer
+	 * @return le dictionnaire chargé
+	 */
+	private LexicographicTree load(CRC32 checksum) throws IOException {
+		return loader.load(source, checksum);
+	}
+
+	/**
+	 * Cette méthode permet de construire le nouveau dictionnaire puis de le substituer à l'ancien.
+	 * Si le fichier n'est plus lisible (par exemple pendant son remplacement) ou si son contenu n'a pas changé
+	 * depuis le dernier chargement, l'ancien dictionnaire est conservé. Une exception levée par un observateur
+	 * n'empêche ni la notification des suivants, ni la mise en place du nouveau dictionnaire.
+	 * @return le dictionnaire en place après l'opération
+	 */
+	private LexicographicTree reloadNow() {
+		reloadPending.set(false);
+		if (!Files.isReadable(source)) {
+			return current.get();
+		}
+		long startTime = System.currentTimeMillis();
+		CRC32 checksum = new CRC32();
+		LexicographicTree dictionary;
+		try {
+			dictionary = load(checksum);
+		} catch (IOException e) {
+			return current.get();
+		}
+		if (checksum.getValue() == loadedChecksum) {
+			// Contenu inchangé (par exemple, événement de surveillance suivant un rechargement explicite)
+			return current.get();
+		}
+		loadedChecksum = checksum.getValue();
+		long duration = System.currentTimeMillis() - startTime;
+		LexicographicTree previous = current.getAndSet(dictionary);
+		int delta = dictionary.size() - previous.size();
+		lastReloadDuration = duration;
+		lastWordCountDelta = delta;
+		for (ReloadListener listener : listeners) {
+			try {
+				listener.onReload(dictionary, duration, delta);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+		return dictionary;
+	}
+
+	/**
+	 * Boucle de surveillance du répertoire contenant le fichier source. Les événements concernant
+	 * d'autres fichiers sont ignorés et une rafale d'événements ne provoque qu'un seul rechargement.
+	 */
+	private void watch() {
+		try {
+			while (true) {
+				WatchKey key = watcher.take();
+				boolean sourceChanged = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					Object context = event.context();
+					if (context instanceof Path && source.getFileName().equals(context)) {
+						sourceChanged = true;
+					}
+				}
+				key.reset();
+				if (sourceChanged && reloadPending.compareAndSet(false, true)) {
+					reloader.execute(() -> {
+						try {
+							TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MILLIS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							return;
+						}
+						reloadNow();
+					});
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// Fin de la surveillance
+		}
+	}
+}
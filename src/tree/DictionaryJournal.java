@@ -0,0 +1,465 @@
+package tree;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Journal des mots ajoutés à un dictionnaire pendant l'exécution.
+ *
+ * <p>Le dictionnaire est formé d'un fichier de base (un mot par ligne, lu avec {@link DictionaryLoader}) et
+ * d'un journal dans lequel chaque mot inséré est ajouté à la suite des précédents. Au démarrage, le journal
+ * est rejoué sur la base. Chaque enregistrement du journal contient la longueur du mot, le mot en UTF-8 et
+ * une somme de contrôle CRC32 : un enregistrement incomplet ou corrompu à la fin du fichier (arrêt brutal
+ * pendant une écriture) est ignoré et tronqué.</p>
+ *
+ * <p>Les écritures sont regroupées : les enregistrements sont accumulés en mémoire puis écrits et
+ * synchronisés sur le disque ({@code fsync}) par un thread dédié, au plus toutes les
+ * {@value #SYNC_INTERVAL_MILLIS} ms. {@link #insertWord(String)} retourne une tâche complétée lorsque le mot
+ * est durablement enregistré : un appelant peut l'attendre, ou l'ignorer pour ne pas ralentir les insertions.
+ * Seul l'échange des tampons se fait sous le moniteur du journal : l'écriture et la synchronisation sur le
+ * disque ne bloquent ni les insertions ni les lectures.</p>
+ *
+ * <p>Lorsque le journal dépasse une taille donnée, il est intégré en arrière-plan dans un nouveau fichier de
+ * base : le journal courant est mis de côté et remplacé par un journal vide, une copie instantanée de l'arbre
+ * est écrite dans un fichier temporaire qui remplace ensuite la base, puis l'ancien journal est supprimé.
+ * Les insertions continuent pendant ce temps dans le nouveau journal. En cas d'arrêt au milieu de cette
+ * opération, l'ancien journal est simplement rejoué au démarrage suivant (réinsérer un mot déjà présent
+ * ne change rien). Un ancien journal qui n'a pas encore été intégré n'est jamais remplacé : le journal
+ * courant est ajouté à sa suite.</p>
+ */
+public class DictionaryJournal implements Closeable {
+
+	/**
+	 * Intervalle entre deux synchronisations du journal sur le disque.
+	 */
+	public static final long SYNC_INTERVAL_MILLIS = 20;
+	// Taille du journal au-delà de laquelle il est intégré dans la base
+	private static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+	private static final String OLD_JOURNAL_SUFFIX = ".old";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final Path base;
+	private final Path journal;
+	private final long compactionThreshold;
+	private final LexicographicTree dictionary;
+	private final ScheduledExecutorService syncer;
+	private final ExecutorService compactor;
+	private FileChannel channel;
+	private long journalSize;
+	private boolean compactionPending;
+	private boolean closed;
+	// Enregistrements pas encore écrits, et tâches à compléter à la prochaine synchronisation
+	private ByteBuffer pending = ByteBuffer.allocate(4096);
+	private List<CompletableFuture<Void>> waiting = new ArrayList<>();
+	// Tampon en cours d'écriture, échangé avec "pending" à chaque synchronisation
+	private ByteBuffer writing = ByteBuffer.allocate(4096);
+	// Verrou des écritures sur le disque, toujours pris avant le moniteur du journal
+	private final Object writeLock = new Object();
+	// Taille de la partie du journal écrite et synchronisée, protégée par writeLock
+	private long syncedSize;
+
+	/**
+	 * Constructeur : charge la base, rejoue le journal puis l'ouvre pour y ajouter les prochains mots.
+	 * @param baseFilename le fichier de base (un mot par ligne) ; s'il n'existe pas, la base est vide
+	 * @param journalFilename le fichier du journal ; il est créé s'il n'existe pas
+	 * @throws IOException si un des fichiers ne peut pas être lu ou écrit
+	 */
+	public DictionaryJournal(String baseFilename, String journalFilename) throws IOException {
+		this(baseFilename, journalFilename, DEFAULT_COMPACTION_THRESHOLD);
+	}
+
+	/**
+	 * Constructeur : charge la base, rejoue le journal puis l'ouvre pour y ajouter les prochains mots.
+	 * @param baseFilename le fichier de base (un mot par ligne) ; s'il n'existe pas, la base est vide
+	 * @param journalFilename le fichier du journal ; il est créé s'il n'existe pas
+	 * @param compactionThreshold la taille du journal, en octets, au-delà de laquelle il est intégré dans la base
+	 * @throws IOException si un des fichiers ne peut pas être lu ou écrit
+	 */
+	public DictionaryJournal(String baseFilename, String journalFilename, long compactionThreshold)
+			throws IOException {
+		this.base = Paths.get(baseFilename).toAbsolutePath();
+		this.journal = Paths.get(journalFilename).toAbsolutePath();
+		this.compactionThreshold = compactionThreshold;
+		this.dictionary = Files.exists(base) ? new DictionaryLoader().load(base) : new LexicographicTree();
+		// Journal mis de côté par une intégration interrompue, puis journal courant
+		Path oldJournal = sibling(journal, OLD_JOURNAL_SUFFIX);
+		if (Files.exists(oldJournal)) {
+			replay(oldJournal, dictionary);
+		}
+		this.channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.journalSize = replay(channel, dictionary);
+		this.syncedSize = journalSize;
+		channel.position(journalSize);
+		forceDirectory(journal);
+
+		this.syncer = Executors.newSingleThreadScheduledExecutor(daemon("dictionary-journal"));
+		this.compactor = Executors.newSingleThreadExecutor(daemon("dictionary-compaction"));
+		syncer.scheduleWithFixedDelay(this::syncQuietly, SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS,
+				TimeUnit.MILLISECONDS);
+		if (Files.exists(oldJournal)) {
+			// Termine l'intégration interrompue
+			compact();
+		}
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Retourne le dictionnaire. Il ne doit être modifié que par {@link #insertWord(String)}, et les lectures
+	 * concurrentes à des insertions doivent être synchronisées sur ce journal.
+	 * @return le dictionnaire (base et journal)
+	 */
+	public LexicographicTree getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Cette méthode permet d'insérer un mot dans le dictionnaire et de l'ajouter au journal.
+	 * @param word le mot à insérer
+	 * @return une tâche complétée lorsque le mot a été synchronisé sur le disque
+	 */
+	public synchronized CompletableFuture<Void> insertWord(String word) {
+		if (channel == null) {
+			throw new IllegalStateException("Le journal est fermé");
+		}
+		dictionary.insertWord(word);
+		byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		int recordLength = Integer.BYTES + bytes.length + Integer.BYTES;
+		if (pending.remaining() < recordLength) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + recordLength));
+			pending.flip();
+			pending = larger.put(pending);
+		}
+		pending.putInt(bytes.length).put(bytes).putInt((int) crc.getValue());
+		journalSize += recordLength;
+		CompletableFuture<Void> durable = new CompletableFuture<>();
+		waiting.add(durable);
+		if (journalSize >= compactionThreshold && !compactionPending && !closed) {
+			compactionPending = true;
+			compactor.execute(this::compactQuietly);
+		}
+		return durable;
+	}
+
+	/**
+	 * Cette méthode permet d'écrire immédiatement les enregistrements en attente et de les synchroniser sur le disque.
+	 * @throws IOException si l'écriture échoue
+	 */
+	public void sync() throws IOException {
+		synchronized (writeLock) {
+			FileChannel output;
+			ByteBuffer buffer;
+			List<CompletableFuture<Void>> synced;
+			synchronized (this) {
+				if (channel == null) {
+					return;
+				}
+				output = channel;
+				buffer = pending;
+				pending = writing;
+				writing = buffer;
+				synced = waiting;
+				waiting = new ArrayList<>();
+			}
+			buffer.flip();
+			int length = buffer.remaining();
+			try {
+				while (buffer.hasRemaining()) {
+					output.write(buffer);
+				}
+				output.force(false);
+				syncedSize += length;
+			} catch (IOException e) {
+				// Un enregistrement incomplet masquerait les suivants au démarrage : le lot est retiré du fichier
+				try {
+					output.truncate(syncedSize);
+					output.position(syncedSize);
+				} catch (IOException truncateError) {
+					e.addSuppressed(truncateError);
+				}
+				synchronized (this) {
+					journalSize -= length;
+				}
+				for (CompletableFuture<Void> future : synced) {
+					future.completeExceptionally(e);
+				}
+				throw e;
+			} finally {
+				buffer.clear();
+			}
+			for (CompletableFuture<Void> future : synced) {
+				future.complete(null);
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode permet de demander l'intégration du journal dans la base, en arrière-plan.
+	 * @return une tâche complétée lorsque la nouvelle base a remplacé l'ancienne
+	 */
+	public CompletableFuture<Void> compact() {
+		synchronized (this) {
+			if (closed) {
+				return CompletableFuture.completedFuture(null);
+			}
+			compactionPending = true;
+		}
+		return CompletableFuture.runAsync(() -> {
+			try {
+				compactNow();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, compactor);
+	}
+
+	/**
+	 * @return la taille du journal courant en octets, enregistrements en attente compris
+	 */
+	public synchronized long getJournalSize() {
+		return journalSize;
+	}
+
+	/**
+	 * Synchronise les derniers enregistrements puis ferme le journal. Une intégration en cours est terminée.
+	 * Un second appel est sans effet.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			if (channel == null) {
+				return;
+			}
+			// Plus aucune intégration ne sera demandée
+			closed = true;
+		}
+		compactor.shutdown();
+		try {
+			compactor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		syncer.shutdownNow();
+		synchronized (writeLock) {
+			sync();
+			synchronized (this) {
+				if (channel != null) {
+					channel.close();
+					channel = null;
+				}
+			}
+		}
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode permet d'intégrer le journal dans la base. Seule la mise de côté du journal est faite
+	 * en bloquant les insertions ; l'écriture de la nouvelle base se fait sur une copie instantanée de l'arbre.
+	 *
+	 * <p>Si un ancien journal existe encore (intégration interrompue ou échouée), il contient des mots qui ne
+	 * sont pas dans la base : le journal courant est alors ajouté à sa suite, synchronisé, puis vidé, au lieu
+	 * de le remplacer. Un arrêt pendant cet ajout laisse au pire un enregistrement incomplet à la fin de
+	 * l'ancien journal, ignoré au démarrage, tandis que le journal courant est encore intact.</p>
+	 * @throws IOException si un fichier ne peut pas être écrit
+	 */
+	private void compactNow() throws IOException {
+		Path oldJournal = sibling(journal, OLD_JOURNAL_SUFFIX);
+		LexicographicTree snapshot;
+		synchronized (writeLock) {
+			sync();
+			synchronized (this) {
+				compactionPending = false;
+				if (channel == null) {
+					return;
+				}
+				snapshot = dictionary.snapshot();
+				// Les enregistrements arrivés depuis sync() sont encore dans "pending" et iront au nouveau journal
+				long written = syncedSize;
+				if (written > 0) {
+					if (Files.exists(oldJournal)) {
+						appendTo(oldJournal, written);
+						channel.truncate(0);
+						channel.position(0);
+						channel.force(false);
+					} else {
+						channel.close();
+						Files.move(journal, oldJournal, StandardCopyOption.ATOMIC_MOVE);
+						channel = FileChannel.open(journal, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+								StandardOpenOption.WRITE);
+						forceDirectory(journal);
+					}
+					journalSize -= written;
+					syncedSize = 0;
+				}
+			}
+		}
+		if (!Files.exists(oldJournal)) {
+			return;
+		}
+		Path temporary = sibling(base, TEMPORARY_SUFFIX);
+		try (FileChannel output = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			BufferedWriter writer = new BufferedWriter(Channels.newWriter(output,
+					StandardCharsets.UTF_8.newEncoder(), 1 << 16));
+			for (Iterator<String> words = snapshot.streamWords("").iterator(); words.hasNext();) {
+				writer.write(words.next());
+				writer.write('\n');
+			}
+			writer.flush();
+			output.force(true);
+		}
+		Files.move(temporary, base, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		forceDirectory(base);
+		Files.delete(oldJournal);
+		forceDirectory(oldJournal);
+	}
+
+	/**
+	 * Cette méthode ajoute les enregistrements du journal courant à la suite d'un ancien journal, et les
+	 * synchronise sur le disque. En cas d'échec, l'ancien journal est ramené à sa taille initiale afin
+	 * qu'un ajout partiel ne masque pas les enregistrements ajoutés lors d'une tentative suivante.
+	 * @param oldJournal l'ancien journal
+	 * @param length la taille de la partie écrite du journal courant
+	 * @throws IOException si un des journaux ne peut pas être lu ou écrit
+	 */
+	private void appendTo(Path oldJournal, long length) throws IOException {
+		try (FileChannel output = FileChannel.open(oldJournal, StandardOpenOption.WRITE)) {
+			long position = output.size();
+			try {
+				long copied = 0;
+				while (copied < length) {
+					long transferred = channel.transferTo(copied, length - copied, output.position(position + copied));
+					if (transferred == 0) {
+						throw new IOException("Le journal " + journal + " est plus court que sa partie synchronisée");
+					}
+					copied += transferred;
+				}
+				output.force(false);
+			} catch (IOException e) {
+				output.truncate(position);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode synchronise sur le disque le répertoire contenant un fichier, afin qu'une création, un
+	 * renommage ou une suppression de ce fichier survive à un arrêt brutal. Certains systèmes ne permettent
+	 * pas d'ouvrir un répertoire : l'opération est alors ignorée.
+	 * @param file le fichier dont le répertoire doit être synchronisé
+	 */
+	private static void forceDirectory(Path file) {
+		try (FileChannel directory = FileChannel.open(file.getParent(), StandardOpenOption.READ)) {
+			directory.force(true);
+		} catch (IOException e) {
+			// Répertoire non synchronisable sur ce système
+		}
+	}
+
+	private void compactQuietly() {
+		try {
+			compactNow();
+		} catch (IOException e) {
+			// Le journal reste valide : l'intégration sera retentée au prochain dépassement
+			e.printStackTrace();
+		}
+	}
+
+	private void syncQuietly() {
+		try {
+			sync();
+		} catch (IOException e) {
+			// Les tâches en attente ont été complétées avec l'erreur
+		}
+	}
+
+	/**
+	 * Cette méthode permet de rejouer un journal sur un dictionnaire.
+	 * @param file le journal
+	 * @param dictionary le dictionnaire
+	 * @throws IOException si le journal ne peut pas être lu
+	 */
+	private static void replay(Path file, LexicographicTree dictionary) throws IOException {
+		try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			replay(input, dictionary);
+		}
+	}
+
+	/**
+	 * Cette méthode permet de rejouer un journal sur un dictionnaire. La lecture s'arrête au premier
+	 * enregistrement incomplet ou corrompu, et le journal est tronqué à cet endroit.
+	 * @param input le journal ouvert en lecture et écriture
+	 * @param dictionary le dictionnaire
+	 * @return la taille de la partie valide du journal
+	 * @throws IOException si le journal ne peut pas être lu
+	 */
+	private static long replay(FileChannel input, LexicographicTree dictionary) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) input.size());
+		while (buffer.hasRemaining() && input.read(buffer, buffer.position()) > 0) {
+			// Lecture complète du journal
+		}
+		buffer.flip();
+		CRC32 crc = new CRC32();
+		int valid = 0;
+		while (buffer.remaining() >= Integer.BYTES) {
+			int length = buffer.getInt();
+			if (length < 0 || length > buffer.remaining() - Integer.BYTES) {
+				break;
+			}
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+			crc.reset();
+			crc.update(bytes);
+			if (buffer.getInt() != (int) crc.getValue()) {
+				break;
+			}
+			dictionary.insertWord(new String(bytes, StandardCharsets.UTF_8));
+			valid = buffer.position();
+		}
+		if (valid < input.size()) {
+			input.truncate(valid);
+		}
+		return valid;
+	}
+
+	private static Path sibling(Path file, String suffix) {
+		return file.resolveSibling(file.getFileName() + suffix);
+	}
+
+	private static ThreadFactory daemon(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,570 @@
+package tree;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Chargeur de dictionnaires travaillant directement sur les octets du fichier.
+ *
+ * <p>Le fichier est lu par blocs dans un tampon réutilisé ; les octets sont décodés, normalisés et
+ * insérés caractère par caractère dans l'arbre, sans créer de {@code String} pour chaque ligne.
+ * La normalisation est faite au fil de la lecture : les majuscules sont converties en minuscules,
+ * les accents sont retirés ('é' devient 'e', 'œ' devient "oe"), et la marque d'ordre des octets (BOM)
+ * est ignorée. Les espaces en début de ligne sont ignorés ; un espace ou une tabulation après le mot
+ * termine le mot, et la suite de la ligne est ignorée ("pomme de terre" donne "pomme", "chat 12"
+ * donne "chat"). Les lignes vides sont ignorées.</p>
+ *
+ * <p>Les fichiers compressés avec gzip sont détectés automatiquement et décompressés au fil de la lecture.
+ * Les fichiers zstd le sont également lorsque la bibliothèque zstd-jni est présente dans le classpath.</p>
+ *
+ * <p>Contrairement au constructeur {@link LexicographicTree#LexicographicTree(String)}, un fichier
+ * absent ou illisible provoque une {@link IOException}.</p>
+ */
+public class DictionaryLoader {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	// Nombre de mots confiés en une fois à la construction de l'index des suffixes
+	private static final int SUFFIX_BATCH_SIZE = 4096;
+	private static final String ZSTD_INPUT_STREAM = "com.github.luben.zstd.ZstdInputStream";
+
+	// Forme normalisée des caractères de U+00C0 à U+024F (null si le caractère doit être ignoré)
+	private static final int FOLDED_FIRST = 0xC0;
+	private static final String[] FOLDED = buildFoldingTable(0x24F);
+
+	private final Charset charset;
+	private final boolean withSuffixIndex;
+
+	/**
+	 * Constructeur : chargeur de fichiers encodés en UTF-8, sans index des suffixes.
+	 */
+	public DictionaryLoader() {
+		this(StandardCharsets.UTF_8, false);
+	}
+
+	/**
+	 * Constructeur : chargeur de fichiers utilisant l'encodage donné.
+	 * @param charset l'encodage du fichier (UTF-8, ISO-8859-1 et US-ASCII sont décodés directement
+	 * depuis les octets, les autres encodages passent par un décodeur standard)
+	 * @param withSuffixIndex true pour construire également l'index des suffixes
+	 */
+	public DictionaryLoader(Charset charset, boolean withSuffixIndex) {
+		this.charset = charset;
+		this.withSuffixIndex = withSuffixIndex;
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Cette méthode permet de charger un dictionnaire depuis un fichier.
+	 * @param filename le fichier contenant un mot par ligne (éventuellement compressé)
+	 * @return le dictionnaire chargé
+	 * @throws IOException si le fichier est absent ou ne peut pas être lu
+	 */
+	public LexicographicTree load(String filename) throws IOException {
+		return load(Paths.get(filename));
+	}
+
+	/**
+	 * Cette méthode permet de charger un dictionnaire depuis un fichier.
+	 * @param path le fichier contenant un mot par ligne (éventuellement compressé)
+	 * @return le dictionnaire chargé
+	 * @throws IOException si le fichier est absent ou ne peut pas être lu
+	 */
+	public LexicographicTree load(Path path) throws IOException {
+		LexicographicTree tree = new LexicographicTree(withSuffixIndex);
+		loadInto(path, tree);
+		return tree;
+	}
+
+	/**
+	 * Cette méthode permet de charger un dictionnaire depuis un fichier, en calculant au passage la somme
+	 * de contrôle des octets lus (avant décompression).
+	 * @param path le fichier contenant un mot par ligne (éventuellement compressé)
+	 * @param checksum la somme de contrôle à mettre à jour avec le contenu du fichier
+	 * @return le dictionnaire chargé
+	 * @throws IOException si le fichier est absent ou ne peut pas être lu
+	 */
+	public LexicographicTree load(Path path, Checksum checksum) throws IOException {
+		LexicographicTree tree = new LexicographicTree(withSuffixIndex);
+		loadInto(path, tree, checksum);
+		return tree;
+	}
+
+	/**
+	 * Cette méthode permet de charger un dictionnaire depuis un flux, par exemple une ressource.
+	 * Le flux n'est pas fermé.
+	 * @param in le flux contenant un mot par ligne (éventuellement compressé)
+	 * @return le dictionnaire chargé
+	 * @throws IOException si le flux ne peut pas être lu
+	 */
+	public LexicographicTree load(InputStream in) throws IOException {
+		LexicographicTree tree = new LexicographicTree(withSuffixIndex);
+		Parser parser = new Parser(TrieNodeArena.forFileLength(0), withSuffixIndex);
+		parseStream(in, parser);
+		parser.finish(tree);
+		return tree;
+	}
+
+	/**
+	 * Cette méthode permet de lancer le chargement d'un dictionnaire en arrière-plan, par tranches
+	 * correspondant à la première lettre des mots. Le dictionnaire retourné est utilisable immédiatement.
+	 * @param filename le fichier contenant un mot par ligne
+	 * @return le dictionnaire en cours de chargement
+	 */
+	public ProgressiveDictionary loadAsync(String filename) {
+		return loadAsync(Paths.get(filename), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Cette méthode permet de lancer le chargement d'un dictionnaire en arrière-plan, par tranches
+	 * correspondant à la première lettre des mots. Le dictionnaire retourné est utilisable immédiatement.
+	 * @param path le fichier contenant un mot par ligne
+	 * @param executor l'exécuteur chargeant les tranches (plusieurs tranches peuvent être chargées en parallèle)
+	 * @return le dictionnaire en cours de chargement
+	 */
+	public ProgressiveDictionary loadAsync(Path path, Executor executor) {
+		return new ProgressiveDictionary(this, path, executor);
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	/**
+	 * @param header les premiers octets d'un fichier
+	 * @param length le nombre d'octets disponibles
+	 * @return true si les lignes du fichier peuvent être analysées séparément, directement depuis les octets
+	 * (fichier non compressé, dans un encodage décodé par le chargeur)
+	 */
+	boolean canSplit(byte[] header, int length) {
+		return isByteDecoded() && !isCompressed(header, Math.min(length, header.length));
+	}
+
+	/**
+	 * Cette méthode retourne la première lettre, normalisée, du mot contenu dans une ligne. La ligne est
+	 * décodée exactement comme lors du chargement (séquences UTF-8 invalides ou hors du plan multilingue de
+	 * base ignorées), afin que le mot soit rangé dans la tranche de sa première lettre.
+	 * @param bytes le contenu du fichier
+	 * @param start la position du début de la ligne
+	 * @param end la position de la fin de la ligne
+	 * @return la première lettre du mot normalisé, ou 0 si la ligne ne contient aucun mot
+	 */
+	char firstLetter(byte[] bytes, int start, int end) {
+		FirstLetter first = new FirstLetter();
+		first.feed(bytes, start, end - start, charset == StandardCharsets.UTF_8);
+		return first.letter;
+	}
+
+	/**
+	 * Cette méthode permet de construire un arbre à partir de certaines lignes d'un fichier.
+	 * @param bytes le contenu du fichier
+	 * @param ranges les positions de début et de fin (exclue) des portions à analyser, deux à deux ;
+	 * chaque portion est formée de lignes complètes
+	 * @param count le nombre de positions utilisées dans le tableau
+	 * @return l'arbre contenant les mots de ces lignes (sans index des suffixes)
+	 */
+	LexicographicTree loadRanges(byte[] bytes, int[] ranges, int count) {
+		long length = 0;
+		for (int i = 0; i < count; i += 2) {
+			length += ranges[i + 1] - ranges[i];
+		}
+		Parser parser = new Parser(TrieNodeArena.forFileLength(length), false);
+		for (int i = 0; i < count; i += 2) {
+			parser.feed(bytes, ranges[i], ranges[i + 1] - ranges[i], charset == StandardCharsets.UTF_8);
+			// Une portion se termine toujours par une fin de ligne ou par la fin du fichier
+			parser.accept('\n');
+		}
+		LexicographicTree tree = new LexicographicTree();
+		parser.finish(tree);
+		return tree;
+	}
+
+	/**
+	 * Cette méthode permet de remplir un arbre vide avec les mots d'un fichier.
+	 * @param path le fichier à charger
+	 * @param tree l'arbre à remplir
+	 * @throws IOException si le fichier est absent ou ne peut pas être lu
+	 */
+	void loadInto(Path path, LexicographicTree tree) throws IOException {
+		loadInto(path, tree, null);
+	}
+
+	/**
+	 * Cette méthode permet de remplir un arbre vide avec les mots d'un fichier.
+	 * @param path le fichier à charger
+	 * @param tree l'arbre à remplir
+	 * @param checksum la somme de contrôle à mettre à jour avec les octets du fichier, ou null
+	 * @throws IOException si le fichier est absent ou ne peut pas être lu
+	 */
+	void loadInto(Path path, LexicographicTree tree, Checksum checksum) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			Parser parser = new Parser(TrieNodeArena.forFileLength(channel.size()), tree.hasSuffixIndex());
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			while (buffer.position() < 4 && channel.read(buffer) > 0) {
+				// Lecture des premiers octets afin de détecter une éventuelle compression
+			}
+			if (isCompressed(buffer.array(), buffer.position())) {
+				channel.position(0);
+				parseStream(checked(Channels.newInputStream(channel), checksum), parser);
+			} else if (isByteDecoded()) {
+				do {
+					if (checksum != null) {
+						checksum.update(buffer.array(), 0, buffer.position());
+					}
+					parser.feed(buffer.array(), 0, buffer.position(), charset == StandardCharsets.UTF_8);
+					buffer.clear();
+				} while (channel.read(buffer) >= 0);
+			} else {
+				channel.position(0);
+				parseChars(new InputStreamReader(checked(Channels.newInputStream(channel), checksum), charset), parser);
+			}
+			parser.finish(tree);
+		}
+	}
+
+	/**
+	 * Cette méthode retourne la forme normalisée d'un caractère non ASCII : la lettre de base d'une
+	 * lettre accentuée ("é" devient "e"), une ligature décomposée ("œ" devient "oe"), ou l'apostrophe
+	 * pour l'apostrophe typographique.
+	 * @param c un caractère
+	 * @return la forme normalisée, ou null si le caractère n'a pas d'équivalent dans l'arbre
+	 */
+	static String foldAccent(char c) {
+		if (c >= FOLDED_FIRST && c - FOLDED_FIRST < FOLDED.length) {
+			return FOLDED[c - FOLDED_FIRST];
+		}
+		return c == '’' ? "'" : null;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static InputStream checked(InputStream in, Checksum checksum) {
+		return checksum == null ? in : new CheckedInputStream(in, checksum);
+	}
+
+	/**
+	 * @return true si l'encodage peut être décodé directement depuis les octets par le chargeur
+	 */
+	private boolean isByteDecoded() {
+		return charset == StandardCharsets.UTF_8 || charset == StandardCharsets.ISO_8859_1
+				|| charset == StandardCharsets.US_ASCII;
+	}
+
+	private static boolean isCompressed(byte[] header, int length) {
+		return isGzip(header, length) || isZstd(header, length);
+	}
+
+	private static boolean isGzip(byte[] header, int length) {
+		return length >= 2 && (header[0] & 0xFF) == 0x1F && (header[1] & 0xFF) == 0x8B;
+	}
+
+	private static boolean isZstd(byte[] header, int length) {
+		return length >= 4 && (header[0] & 0xFF) == 0x28 && (header[1] & 0xFF) == 0xB5
+				&& (header[2] & 0xFF) == 0x2F && (header[3] & 0xFF) == 0xFD;
+	}
+
+	/**
+	 * Cette méthode permet d'analyser un flux, en le décompressant si nécessaire.
+	 * @param in le flux à analyser
+	 * @param parser l'analyseur recevant les octets
+	 * @throws IOException si le flux ne peut pas être lu
+	 */
+	private void parseStream(InputStream in, Parser parser) throws IOException {
+		PushbackInputStream pushback = new PushbackInputStream(in, 4);
+		byte[] header = new byte[4];
+		int length = pushback.readNBytes(header, 0, header.length);
+		pushback.unread(header, 0, length);
+		InputStream source = pushback;
+		if (isGzip(header, length)) {
+			source = new GZIPInputStream(pushback, BUFFER_SIZE);
+		} else if (isZstd(header, length)) {
+			source = openZstd(pushback);
+		}
+		if (!isByteDecoded()) {
+			parseChars(new InputStreamReader(source, charset), parser);
+			return;
+		}
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = source.read(buffer)) >= 0) {
+			parser.feed(buffer, 0, read, charset == StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void parseChars(Reader reader, Parser parser) throws IOException {
+		char[] buffer = new char[BUFFER_SIZE];
+		int read;
+		while ((read = reader.read(buffer)) >= 0) {
+			for (int i = 0; i < read; i++) {
+				parser.accept(buffer[i]);
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode permet d'ouvrir un flux zstd avec la bibliothèque zstd-jni, si elle est disponible.
+	 * @param in le flux compressé
+	 * @return le flux décompressé
+	 * @throws IOException si la bibliothèque n'est pas disponible
+	 */
+	private static InputStream openZstd(InputStream in) throws IOException {
+		try {
+			Constructor<?> constructor = Class.forName(ZSTD_INPUT_STREAM).getConstructor(InputStream.class);
+			return (InputStream) constructor.newInstance(in);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			throw new IOException("Fichier compressé avec zstd : la bibliothèque zstd-jni (" + ZSTD_INPUT_STREAM
+					+ ") doit être présente dans le classpath", e);
+		}
+	}
+
+	/**
+	 * Cette méthode permet de construire la table de normalisation des lettres accentuées : chaque
+	 * caractère est décomposé (NFD) et seule sa lettre de base est conservée, en minuscule.
+	 * Les ligatures et lettres sans décomposition usuelles en français sont traitées à part.
+	 * @param last le dernier caractère de la table
+	 * @return la table des formes normalisées
+	 */
+	private static String[] buildFoldingTable(int last) {
+		String[] table = new String[last - FOLDED_FIRST + 1];
+		for (int c = FOLDED_FIRST; c <= last; c++) {
+			String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+			char base = Character.toLowerCase(decomposed.charAt(0));
+			if (base >= 'a' && base <= 'z') {
+				table[c - FOLDED_FIRST] = String.valueOf(base);
+			}
+		}
+		table['æ' - FOLDED_FIRST] = table['Æ' - FOLDED_FIRST] = "ae";
+		table['œ' - FOLDED_FIRST] = table['Œ' - FOLDED_FIRST] = "oe";
+		table['ß' - FOLDED_FIRST] = "ss";
+		table['ø' - FOLDED_FIRST] = table['Ø' - FOLDED_FIRST] = "o";
+		table['đ' - FOLDED_FIRST] = table['Đ' - FOLDED_FIRST] = "d";
+		table['ł' - FOLDED_FIRST] = table['Ł' - FOLDED_FIRST] = "l";
+		return table;
+	}
+
+	/**
+	 * Décodeur incrémental des octets du fichier : chaque caractère décodé est transmis à {@link #accept(char)}.
+	 * Les séquences UTF-8 incomplètes ou invalides, et les caractères hors du plan multilingue de base, sont
+	 * ignorés.
+	 */
+	private abstract static class Decoder {
+		// Décodage UTF-8 en cours : point de code partiel et nombre d'octets de continuation attendus
+		private int codePoint;
+		private int pendingBytes;
+
+		/**
+		 * Cette méthode permet de décoder un bloc d'octets.
+		 * @param bytes le tampon contenant les octets
+		 * @param offset la position du premier octet
+		 * @param length le nombre d'octets
+		 * @param utf8 true pour décoder l'UTF-8, false pour un octet par caractère (ISO-8859-1)
+		 */
+		void feed(byte[] bytes, int offset, int length, boolean utf8) {
+			for (int i = offset; i < offset + length; i++) {
+				int b = bytes[i];
+				if (!utf8 || (b >= 0 && pendingBytes == 0)) {
+					accept((char) (b & 0xFF));
+				} else if (pendingBytes > 0 && (b & 0xC0) == 0x80) {
+					codePoint = (codePoint << 6) | (b & 0x3F);
+					if (--pendingBytes == 0 && codePoint <= Character.MAX_VALUE) {
+						accept((char) codePoint);
+					}
+				} else {
+					// Début d'une séquence (une séquence incomplète précédente est abandonnée)
+					pendingBytes = 0;
+					if (b >= 0) {
+						accept((char) b);
+					} else if ((b & 0xE0) == 0xC0) {
+						codePoint = b & 0x1F;
+						pendingBytes = 1;
+					} else if ((b & 0xF0) == 0xE0) {
+						codePoint = b & 0x0F;
+						pendingBytes = 2;
+					} else if ((b & 0xF8) == 0xF0) {
+						codePoint = b & 0x07;
+						pendingBytes = 3;
+					}
+				}
+			}
+		}
+
+		/**
+		 * @param c le caractère décodé
+		 */
+		abstract void accept(char c);
+	}
+
+	/**
+	 * Décodeur retenant la première lettre normalisée d'une ligne, telle que l'analyseur l'ajouterait au mot.
+	 */
+	private static class FirstLetter extends Decoder {
+		private char letter;
+
+		@Override
+		void accept(char c) {
+			if (letter != 0) {
+				return;
+			}
+			if (c >= 'a' && c <= 'z' || c == '-' || c == '\'') {
+				letter = c;
+			} else if (c >= 'A' && c <= 'Z') {
+				letter = (char) (c + ('a' - 'A'));
+			} else if (c > 0x7F) {
+				String folded = foldAccent(c);
+				if (folded != null) {
+					letter = folded.charAt(0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Analyseur incrémental : reçoit les octets (ou les caractères) du fichier par blocs, reconstitue
+	 * chaque mot normalisé dans un tampon réutilisé et l'insère dans la zone de construction à chaque fin de ligne.
+	 */
+	private static class Parser extends Decoder {
+		private final TrieNodeArena arena;
+		private final TrieNodeArena suffixArena;
+		private char[] word = new char[64];
+		private int wordLength;
+		// true après un espace suivant le mot : la suite de la ligne est ignorée
+		private boolean skipping;
+		// Lots de mots confiés à la construction de l'index des suffixes
+		private CompletableFuture<Void> pendingSuffixes = CompletableFuture.completedFuture(null);
+		private char[] batchChars;
+		private int[] batchEnds;
+		private int batchLength;
+		private int batchCount;
+
+		Parser(TrieNodeArena arena, boolean withSuffixIndex) {
+			this.arena = arena;
+			if (withSuffixIndex) {
+				suffixArena = TrieNodeArena.forFileLength(0);
+				newBatch();
+			} else {
+				suffixArena = null;
+			}
+		}
+
+		/**
+		 * Cette méthode permet de normaliser un caractère décodé et de l'ajouter au mot en cours.
+		 * @param c le caractère décodé
+		 */
+		@Override
+		void accept(char c) {
+			if (c == '\n') {
+				endWord();
+				skipping = false;
+			} else if (skipping) {
+				return;
+			} else if (c == ' ' || c == '\t') {
+				// Un espace après le mot le termine ; les espaces en début de ligne sont ignorés
+				skipping = wordLength > 0;
+			} else if (c >= 'a' && c <= 'z' || c == '-' || c == '\'') {
+				append(c);
+			} else if (c >= 'A' && c <= 'Z') {
+				append((char) (c + ('a' - 'A')));
+			} else if (c > 0x7F) {
+				String folded = foldAccent(c);
+				if (folded != null) {
+					for (int i = 0; i < folded.length(); i++) {
+						append(folded.charAt(i));
+					}
+				}
+			}
+			// Les autres caractères (retour chariot, BOM, chiffres, ...) sont ignorés
+		}
+
+		private void append(char c) {
+			if (wordLength == word.length) {
+				word = Arrays.copyOf(word, wordLength * 2);
+			}
+			word[wordLength++] = c;
+		}
+
+		private void endWord() {
+			if (wordLength == 0) {
+				return;
+			}
+			arena.insert(word, 0, wordLength, false);
+			if (suffixArena != null) {
+				addToBatch();
+			}
+			wordLength = 0;
+		}
+
+		private void newBatch() {
+			batchChars = new char[SUFFIX_BATCH_SIZE * 16];
+			batchEnds = new int[SUFFIX_BATCH_SIZE];
+			batchLength = 0;
+			batchCount = 0;
+		}
+
+		private void addToBatch() {
+			if (batchLength + wordLength > batchChars.length) {
+				batchChars = Arrays.copyOf(batchChars, Math.max(batchChars.length * 2, batchLength + wordLength));
+			}
+			System.arraycopy(word, 0, batchChars, batchLength, wordLength);
+			batchLength += wordLength;
+			batchEnds[batchCount++] = batchLength;
+			if (batchCount == SUFFIX_BATCH_SIZE) {
+				scheduleBatch();
+				newBatch();
+			}
+		}
+
+		/**
+		 * Cette méthode permet de confier le lot courant à l'index des suffixes, qui est construit sur un
+		 * autre thread pendant la lecture du fichier. Les lots sont chaînés afin d'être insérés un par un.
+		 */
+		private void scheduleBatch() {
+			char[] chars = batchChars;
+			int[] ends = batchEnds;
+			int count = batchCount;
+			pendingSuffixes = pendingSuffixes.thenRunAsync(() -> {
+				int start = 0;
+				for (int i = 0; i < count; i++) {
+					suffixArena.insert(chars, start, ends[i] - start, true);
+					start = ends[i];
+				}
+			});
+		}
+
+		/**
+		 * Cette méthode permet de terminer l'analyse et de construire les noeuds définitifs de l'arbre.
+		 * @param tree l'arbre à remplir
+		 */
+		void finish(LexicographicTree tree) {
+			endWord();
+			if (suffixArena != null) {
+				scheduleBatch();
+				pendingSuffixes.join();
+			}
+			tree.load(arena, suffixArena);
+		}
+	}
+}
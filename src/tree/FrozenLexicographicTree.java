@@ -0,0 +1,273 @@
+package tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Copie figée d'un {@link LexicographicTree}, obtenue avec {@link LexicographicTree#freeze()}.
+ *
+ * <p>Les noeuds ne contiennent que des champs {@code final} : une fois construite, la copie peut être
+ * transmise à d'autres threads sans synchronisation et interrogée simultanément par tous. Aucune recherche
+ * n'écrit dans l'arbre, ni dans un champ partagé entre les threads.</p>
+ *
+ * <p>Le tableau des enfants de chaque noeud est indexé directement par le caractère, comme dans
+ * {@link TrieNode}, mais s'arrête à son dernier enfant présent ; les feuilles n'ont pas de tableau et sont
+ * toutes représentées par un même noeud. Chaque noeud connait enfin la longueur du plus long mot de son
+ * sous-arbre, ce qui permet d'écarter les branches trop courtes lors de la recherche des mots d'une
+ * longueur donnée.</p>
+ */
+public final class FrozenLexicographicTree {
+
+	private static final Node LEAF = new Node(true, null, 0);
+
+	private final Node root;
+	private final int size;
+
+	/**
+	 * Constructeur : copie les noeuds d'un arbre.
+	 * @param root la racine de l'arbre copié (null si l'arbre est vide)
+	 * @param size le nombre de mots de l'arbre
+	 */
+	FrozenLexicographicTree(TrieNode root, int size) {
+		this.root = root == null ? null : freeze(root);
+		this.size = size;
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return le nombre de mots présents dans l'arbre
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si un mot est présent dans l'arbre.
+	 * @param word un mot
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(CharSequence word) {
+		Node node = findNode(word);
+		return node != null && node.isWord;
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si au moins un mot commence par le préfixe donné.
+	 * @param prefix un préfixe
+	 * @return true si le préfixe (non vide) est présent, false sinon
+	 */
+	public boolean containsPrefix(CharSequence prefix) {
+		return prefix.length() > 0 && findNode(prefix) != null;
+	}
+
+	/**
+	 * Cette méthode retourne la liste alphabétique des mots commençant par le préfixe donné.
+	 * @param prefix le préfixe souhaité (chaine vide pour tous les mots)
+	 * @return la liste des mots commençant par le préfixe
+	 */
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		Node node = findNode(prefix);
+		if (node != null) {
+			collectWords(node, new StringBuilder(prefix), words);
+		}
+		return words;
+	}
+
+	/**
+	 * Cette méthode retourne la liste alphabétique des mots de la longueur donnée.
+	 * @param length la longueur des mots souhaités
+	 * @return la liste des mots de cette longueur (vide si la longueur est négative ou nulle)
+	 */
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (root != null && length > 0) {
+			collectWordsOfLength(root, new StringBuilder(length), length, words);
+		}
+		return words;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Cette méthode permet de copier récursivement un sous-arbre.
+	 * @param node le noeud à copier
+	 * @return la copie du noeud
+	 */
+	private static Node freeze(TrieNode node) {
+		TrieNode[] children = node.getChildren();
+		int length = children == null ? 0 : children.length;
+		while (length > 0 && children[length - 1] == null) {
+			length--;
+		}
+		if (length == 0) {
+			return node.isWord() ? LEAF : new Node(false, null, 0);
+		}
+		Node[] frozen = new Node[length];
+		int height = 0;
+		for (int i = 0; i < length; i++) {
+			if (children[i] != null) {
+				frozen[i] = freeze(children[i]);
+				height = Math.max(height, frozen[i].height + 1);
+			}
+		}
+		return new Node(node.isWord(), frozen, height);
+	}
+
+	private Node findNode(CharSequence prefix) {
+		Node node = root;
+		for (int i = 0, length = prefix.length(); i < length && node != null; i++) {
+			node = node.getChild(prefix.charAt(i));
+		}
+		return node;
+	}
+
+	private static void collectWords(Node node, StringBuilder currentWord, List<String> words) {
+		if (node.isWord) {
+			words.add(currentWord.toString());
+		}
+		Node[] children = node.children;
+		for (int i = 0; children != null && i < children.length; i++) {
+			if (children[i] != null) {
+				currentWord.append(indexToChar(i));
+				collectWords(children[i], currentWord, words);
+				currentWord.setLength(currentWord.length() - 1);
+			}
+		}
+	}
+
+	private static void collectWordsOfLength(Node node, StringBuilder currentWord, int length, List<String> words) {
+		int remaining = length - currentWord.length();
+		if (remaining == 0) {
+			if (node.isWord) {
+				words.add(currentWord.toString());
+			}
+			return;
+		}
+		if (node.height < remaining) {
+			// Aucun mot du sous-arbre n'est assez long
+			return;
+		}
+		Node[] children = node.children;
+		for (int i = 0; i < children.length; i++) {
+			if (children[i] != null) {
+				currentWord.append(indexToChar(i));
+				collectWordsOfLength(children[i], currentWord, length, words);
+				currentWord.setLength(currentWord.length() - 1);
+			}
+		}
+	}
+
+	private static int charToIndex(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		} else if (c == '-') {
+			return 26;
+		} else if (c == '\'') {
+			return 27;
+		}
+		return -1;
+	}
+
+	private static char indexToChar(int index) {
+		return index < 26 ? (char) ('a' + index) : index == 26 ? '-' : '\'';
+	}
+
+	/**
+	 * Noeud de l'arbre figé.
+	 */
+	private static final class Node {
+		private final boolean isWord;
+		// Enfants indexés par caractère, jusqu'au dernier présent (null pour une feuille)
+		private final Node[] children;
+		// Longueur du plus long mot du sous-arbre, à partir de ce noeud
+		private final int height;
+
+		private Node(boolean isWord, Node[] children, int height) {
+			this.isWord = isWord;
+			this.children = children;
+			this.height = height;
+		}
+
+		private Node getChild(char c) {
+			int index = charToIndex(c);
+			if (children == null || index < 0 || index >= children.length) {
+				return null;
+			}
+			return children[index];
+		}
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Mesure le nombre de recherches par seconde selon le nombre de threads lecteurs, sur l'arbre modifiable
+	 * et sur sa copie figée. Chaque thread compte ses recherches dans une variable locale, renvoyée à la fin :
+	 * les lecteurs ne partagent aucune donnée modifiée.
+	 */
+	private static void testReaderScaling(String filename) throws Exception {
+		LexicographicTree tree = new LexicographicTree(filename);
+		FrozenLexicographicTree frozen = tree.freeze();
+		String[] words = tree.getWords("").toArray(new String[0]);
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int round = 0; round < 3; round++) {
+			for (int threads = 1; threads <= processors; threads *= 2) {
+				double mutable = throughput(threads, words, word -> tree.containsWord(word));
+				double immutable = throughput(threads, words, word -> frozen.containsWord(word));
+				System.out.printf("%d thread(s) : LexicographicTree %.1f M recherches/s, FrozenLexicographicTree %.1f M recherches/s%n",
+						threads, mutable / 1e6, immutable / 1e6);
+			}
+		}
+	}
+
+	private interface Lookup {
+		boolean contains(String word);
+	}
+
+	private static double throughput(int threads, String[] words, Lookup lookup) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Long>> results = new ArrayList<>();
+			long startTime = System.nanoTime();
+			for (int t = 0; t < threads; t++) {
+				int offset = t * words.length / threads;
+				results.add(executor.submit(() -> {
+					long found = 0;
+					for (int repeat = 0; repeat < 5; repeat++) {
+						for (int i = 0; i < words.length; i++) {
+							if (lookup.contains(words[(offset + i) % words.length])) {
+								found++;
+							}
+						}
+					}
+					return found;
+				}));
+			}
+			long lookups = 0;
+			for (Future<Long> result : results) {
+				lookups += result.get();
+			}
+			return lookups * 1e9 / (System.nanoTime() - startTime);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) throws Exception {
+		testReaderScaling("mots/dictionnaire_FR_sans_accents.txt");
+	}
+}
@@ -0,0 +1,133 @@
+package tree;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Association entre des mots et des entiers, rangée dans un arbre lexicographique (fréquences,
+ * identifiants, ...). Les valeurs sont stockées dans un tableau de {@code int}, sans objets intermédiaires.
+ *
+ * <p>Une clé absente a la valeur 0 pour {@link #get(String)} ; {@link #containsKey(String)} permet de
+ * distinguer une clé absente d'une clé associée à 0.</p>
+ */
+public class IntTrieMap extends AbstractTrieMap {
+
+	private int[] values = new int[0];
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @param key une clé
+	 * @return la valeur associée à la clé, ou 0 si la clé est absente
+	 * @throws IllegalArgumentException si la clé contient un caractère invalide
+	 */
+	public int get(String key) {
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * @param key une clé
+	 * @param defaultValue la valeur retournée si la clé est absente
+	 * @return la valeur associée à la clé, ou la valeur par défaut si la clé est absente
+	 */
+	public int getOrDefault(String key, int defaultValue) {
+		int slot = slotOf(key);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+
+	/**
+	 * Cette méthode permet d'associer une valeur à une clé.
+	 * @param key une clé
+	 * @param value la valeur
+	 * @return la valeur précédemment associée à la clé, ou 0 si la clé était absente
+	 * @throws IllegalArgumentException si la clé contient un caractère invalide
+	 */
+	public int put(String key, int value) {
+		int slot = addSlot(key);
+		if (slot < 0) {
+			values[~slot] = value;
+			return 0;
+		}
+		int previous = values[slot];
+		values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * Cette méthode permet de retirer une clé.
+	 * @param key une clé
+	 * @return la valeur qui était associée à la clé, ou 0 si la clé était absente
+	 */
+	public int remove(String key) {
+		int slot = removeSlot(key);
+		return slot < 0 ? 0 : values[slot];
+	}
+
+	/**
+	 * Cette méthode permet de combiner une valeur avec celle déjà associée à une clé. Par exemple,
+	 * {@code merge(word, 1, Integer::sum)} compte les occurrences d'un mot.
+	 * @param key une clé
+	 * @param value la valeur associée à la clé si elle est absente
+	 * @param remappingFunction la fonction combinant l'ancienne valeur et la nouvelle
+	 * @return la nouvelle valeur associée à la clé
+	 */
+	public int merge(String key, int value, IntBinaryOperator remappingFunction) {
+		int slot = addSlot(key);
+		if (slot < 0) {
+			values[~slot] = value;
+			return value;
+		}
+		// La fonction peut ajouter des clés et agrandir le tableau : la valeur est écrite après son appel
+		int merged = remappingFunction.applyAsInt(values[slot], value);
+		values[slot] = merged;
+		return merged;
+	}
+
+	/**
+	 * Cette méthode retourne la valeur associée à une clé, en la calculant et en l'ajoutant si la clé est absente.
+	 * @param key une clé
+	 * @param mappingFunction la fonction calculant la valeur d'une clé absente
+	 * @return la valeur associée à la clé
+	 * @throws ConcurrentModificationException si la fonction a elle-même ajouté la clé
+	 */
+	public int computeIfAbsent(String key, ToIntFunction<? super String> mappingFunction) {
+		int slot = slotOf(key);
+		if (slot >= 0) {
+			return values[slot];
+		}
+		int value = mappingFunction.applyAsInt(key);
+		// L'ajout peut agrandir le tableau des valeurs : l'emplacement est obtenu avant d'y accéder
+		slot = addSlot(key);
+		if (slot >= 0) {
+			throw new ConcurrentModificationException("La fonction a ajouté la clé " + key);
+		}
+		values[~slot] = value;
+		return value;
+	}
+
+	/**
+	 * Cette méthode permet de parcourir, dans l'ordre de l'arbre, les clés commençant par un préfixe
+	 * et leurs valeurs.
+	 * @param prefix le préfixe des clés (chaine vide pour toutes les clés)
+	 * @param action l'action appliquée à chaque clé et à sa valeur
+	 */
+	public void forEach(String prefix, ObjIntConsumer<? super String> action) {
+		forEachSlot(prefix, (key, slot) -> action.accept(key, values[slot]));
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	@Override
+	void ensureCapacity(int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values, grow(values.length, capacity));
+		}
+	}
+}
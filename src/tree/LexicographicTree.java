@@ -1,22 +1,56 @@
 package tree;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class LexicographicTree {
 	
 	  private TrieNode root;
+	  // Nombre de mots, ou UNKNOWN_SIZE tant qu'il n'a pas été compté (après une fusion)
 	  private int size;
+	  // Arbre compagnon contenant les mots à l'envers (null si l'index des suffixes n'est pas demandé)
+	  private LexicographicTree suffixIndex;
+
+	  // Opérations ensemblistes réalisées par fusion des arbres
+	  private static final int UNION = 0;
+	  private static final int INTERSECTION = 1;
+	  private static final int DIFFERENCE = 2;
+	  private static final int UNKNOWN_SIZE = -1;
+
+	  /**
+	   * Comparateur respectant l'ordre de l'arbre : de 'a' à 'z', puis le tiret et l'apostrophe.
+	   */
+	  public static final Comparator<String> TREE_ORDER = (a, b) -> {
+		  int length = Math.min(a.length(), b.length());
+		  for (int i = 0; i < length; i++) {
+			  int diff = charOrder(a.charAt(i)) - charOrder(b.charAt(i));
+			  if (diff != 0) {
+				  return diff;
+			  }
+		  }
+		  return a.length() - b.length();
+	  };
 
 	/*
 	 * CONSTRUCTORS
@@ -34,17 +68,46 @@ public class LexicographicTree {
 	 * @param filename A text file containing the words to be inserted in the tree 
 	 */
 	public LexicographicTree(String filename) {
+		this(filename, false);
+	}
+	
+	/**
+	 * Constructor : creates an empty lexicographic tree, optionally backed by a suffix index.
+	 * @param withSuffixIndex true pour maintenir un arbre des mots inversés permettant
+	 * les recherches par terminaison
+	 */
+	public LexicographicTree(boolean withSuffixIndex) {
 		this();
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                insertWord(line.trim());
-            }
-        } catch (FileNotFoundException e) {
-            System.out.println("Nom de fichier invalide ! Un LexicographcTree vide a été créé !");
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+		if (withSuffixIndex) {
+			suffixIndex = new LexicographicTree();
+		}
+	}
+	
+	/**
+	 * Constructor : creates a lexicographic tree populated with words, optionally backed by a suffix index.
+	 * 
+	 * <p>Le fichier, encodé en UTF-8, est lu par {@link DictionaryLoader} : les mots sont normalisés
+	 * (minuscules, accents retirés) et insérés dans une zone de construction ({@link TrieNodeArena})
+	 * dimensionnée d'après la taille du fichier, puis les noeuds définitifs sont créés en une passe.</p>
+	 * 
+	 * <p>Lorsque l'index des suffixes est demandé, les mots inversés sont insérés par lots
+	 * dans l'arbre compagnon sur un autre thread, pendant que le fichier est lu et que l'arbre
+	 * principal est construit. Le temps de chargement n'est donc pas doublé.</p>
+	 * 
+	 * <p>Si le fichier n'existe pas, un arbre vide est créé. Pour obtenir une exception à la place,
+	 * utiliser directement {@link DictionaryLoader#load(String)}.</p>
+	 * @param filename A text file containing the words to be inserted in the tree
+	 * @param withSuffixIndex true pour construire également l'index des suffixes
+	 */
+	public LexicographicTree(String filename, boolean withSuffixIndex) {
+		this(withSuffixIndex);
+		try {
+			new DictionaryLoader(StandardCharsets.UTF_8, withSuffixIndex).loadInto(Paths.get(filename), this);
+		} catch (NoSuchFileException e) {
+			System.out.println("Nom de fichier invalide ! Un LexicographcTree vide a été créé !");
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
 	}
 	
 	/*
@@ -56,6 +119,10 @@ public class LexicographicTree {
 	 * @return The number of words present in the lexicographic tree
 	 */
 	public int size() {
+		if (size == UNKNOWN_SIZE) {
+			// Résultat d'une fusion : les mots sont comptés une seule fois, à la première demande
+			size = root == null ? 0 : countWords(root);
+		}
 		return this.size;
 	}
 
@@ -64,15 +131,210 @@ public class LexicographicTree {
 	 * @param word A word
 	 */
 	public void insertWord(String word) {
+		insertInTree(word);
+		if (suffixIndex != null) {
+			suffixIndex.insertWord(reverse(word));
+		}
+	}
+	
+	/**
+	 * Cette méthode donne accès aux noeuds de l'arbre, afin de parcourir l'arbre au rythme d'une autre
+	 * structure (par exemple une grille de Boggle) sans repartir de la racine à chaque caractère.
+	 * Hors de ce paquetage, un noeud ne peut qu'être parcouru ({@link TrieNode#getChild(char)},
+	 * {@link TrieNode#isWord()}) : les noeuds partagés entre plusieurs arbres ne peuvent pas être modifiés.
+	 * @param prefix le préfixe menant au noeud ("" pour la racine)
+	 * @return le noeud atteint, ou null si aucun mot ne commence par ce préfixe
+	 */
+	public TrieNode getNode(CharSequence prefix) {
+		return findNode(prefix);
+	}
+
+	/**
+	 * @return le noeud racine de l'arbre, ou null si aucun mot n'a encore été inséré
+	 */
+	TrieNode getRoot() {
+		return root;
+	}
+
+	/**
+	 * Cette méthode permet d'installer les noeuds construits par un chargement dans un arbre vide.
+	 * @param arena la zone de construction de l'arbre
+	 * @param suffixArena la zone de construction de l'index des suffixes (null si l'arbre n'en a pas)
+	 */
+	void load(TrieNodeArena arena, TrieNodeArena suffixArena) {
+		install(arena.compact(), arena.size());
+		if (suffixIndex != null && suffixArena != null) {
+			suffixIndex.root = suffixArena.compact();
+			suffixIndex.size = suffixArena.size();
+		}
+	}
+
+	/**
+	 * Cette méthode permet d'installer dans un arbre vide des noeuds construits par ailleurs.
+	 * @param root la racine de l'arbre (null si l'arbre est vide)
+	 * @param size le nombre de mots sous cette racine
+	 */
+	void install(TrieNode root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Cette méthode permet de réunir deux sous-arbres sans copier les noeuds communs (voir {@link #union}).
+	 * @param a un sous-arbre (peut être null)
+	 * @param b un autre sous-arbre (peut être null)
+	 * @return le sous-arbre contenant les mots des deux, ou null s'ils n'en contiennent aucun
+	 */
+	static TrieNode unionNodes(TrieNode a, TrieNode b) {
+		return mergeNodes(a, b, UNION);
+	}
+
+	/**
+	 * Cette méthode retourne une copie instantanée de l'arbre (sans son index des suffixes). Les noeuds ne
+	 * sont pas copiés mais partagés : les insertions suivantes dans cet arbre copient les noeuds qu'elles
+	 * modifient, comme après une union, et ne sont donc pas visibles dans la copie. La racine de cet arbre
+	 * change à la première insertion suivante.
+	 * @return la copie de l'arbre, qui ne doit pas être modifiée
+	 */
+	public LexicographicTree snapshot() {
+		LexicographicTree snapshot = new LexicographicTree();
+		if (root != null) {
+			root.markShared();
+		}
+		snapshot.root = root;
+		snapshot.size = size;
+		return snapshot;
+	}
+
+	/**
+	 * Cette méthode retourne une copie figée de l'arbre, destinée aux recherches depuis plusieurs threads.
+	 * Les insertions suivantes dans cet arbre ne sont pas visibles dans la copie.
+	 * @return une copie non modifiable de l'arbre (sans son index des suffixes)
+	 */
+	public FrozenLexicographicTree freeze() {
+		return new FrozenLexicographicTree(root, size());
+	}
+
+	/**
+	 * Indique si l'arbre maintient un index des suffixes.
+	 * @return true si les recherches par terminaison sont disponibles, false sinon
+	 */
+	public boolean hasSuffixIndex() {
+		return suffixIndex != null;
+	}
+	
+	/**
+	 * Cette méthode retourne, dans l'ordre alphabétique, tous les mots se terminant par le suffixe donné.
+	 * Si le suffixe est une chaine vide, tous les mots sont retournés.
+	 * @param suffix la terminaison souhaitée
+	 * @return la liste des mots se terminant par le suffixe
+	 * @throws IllegalStateException si l'arbre a été créé sans index des suffixes
+	 */
+	public List<String> getWordsEndingWith(String suffix) {
+		List<String> words = streamWordsEndingWith(suffix).collect(Collectors.toCollection(ArrayList::new));
+		words.sort(TREE_ORDER);
+		return words;
+	}
+	
+	/**
+	 * Cette méthode retourne, dans l'ordre alphabétique, tous les mots commençant par le préfixe
+	 * et se terminant par le suffixe donnés. Le côté le plus sélectif (le plus long) est utilisé
+	 * pour parcourir l'arbre lorsque l'index des suffixes est disponible.
+	 * @param prefix le préfixe souhaité
+	 * @param suffix la terminaison souhaitée
+	 * @return la liste des mots correspondant aux deux critères
+	 */
+	public List<String> getWords(String prefix, String suffix) {
+		if (suffixIndex == null || prefix.length() >= suffix.length()) {
+			List<String> words = getWords(prefix);
+			words.removeIf(word -> !word.endsWith(suffix));
+			return words;
+		}
+		List<String> words = streamWordsEndingWith(suffix)
+				.filter(word -> word.startsWith(prefix))
+				.collect(Collectors.toCollection(ArrayList::new));
+		words.sort(TREE_ORDER);
+		return words;
+	}
+	
+	/**
+	 * Cette méthode retourne un flux paresseux des mots commençant par le préfixe donné,
+	 * dans l'ordre alphabétique. Les mots ne sont construits qu'au fur et à mesure de leur consommation.
+	 * @param prefix le préfixe souhaité
+	 * @return le flux des mots commençant par le préfixe
+	 */
+	public Stream<String> streamWords(String prefix) {
+		return toStream(new WordIterator(findNode(prefix), prefix));
+	}
+	
+	/**
+	 * Cette méthode retourne un flux paresseux des mots se terminant par le suffixe donné.
+	 * Les mots sont produits dans l'ordre de leur écriture inversée (les rimes les plus proches
+	 * se suivent), et non dans l'ordre alphabétique.
+	 * @param suffix la terminaison souhaitée
+	 * @return le flux des mots se terminant par le suffixe
+	 * @throws IllegalStateException si l'arbre a été créé sans index des suffixes
+	 */
+	public Stream<String> streamWordsEndingWith(String suffix) {
+		if (suffixIndex == null) {
+			throw new IllegalStateException("L'index des suffixes n'a pas été construit pour cet arbre");
+		}
+		return suffixIndex.streamWords(reverse(suffix)).map(LexicographicTree::reverse);
+	}
+	
+	/**
+	 * Cette méthode retourne un nouvel arbre contenant les mots présents dans l'arbre courant
+	 * ou dans l'arbre donné. Les deux arbres sont parcourus simultanément en une seule passe et les
+	 * sous-arbres n'existant que d'un côté sont réutilisés tels quels plutôt que recopiés.
+	 * Les arbres d'origine ne sont pas modifiés, y compris lors d'insertions ultérieures.
+	 * @param other un autre arbre
+	 * @return l'union des deux arbres
+	 */
+	public LexicographicTree union(LexicographicTree other) {
+		return merge(other, UNION);
+	}
+	
+	/**
+	 * Cette méthode retourne un nouvel arbre contenant les mots présents à la fois dans l'arbre
+	 * courant et dans l'arbre donné, en parcourant les deux arbres simultanément.
+	 * @param other un autre arbre
+	 * @return l'intersection des deux arbres
+	 */
+	public LexicographicTree intersection(LexicographicTree other) {
+		return merge(other, INTERSECTION);
+	}
+	
+	/**
+	 * Cette méthode retourne un nouvel arbre contenant les mots de l'arbre courant qui ne sont pas
+	 * présents dans l'arbre donné (par exemple, le dictionnaire privé d'une liste de mots interdits).
+	 * Les sous-arbres absents de l'arbre donné sont réutilisés tels quels.
+	 * @param other les mots à retirer
+	 * @return la différence des deux arbres
+	 */
+	public LexicographicTree difference(LexicographicTree other) {
+		return merge(other, DIFFERENCE);
+	}
+	
+	/**
+	 * Cette méthode permet d'insérer un mot uniquement dans l'arbre courant, sans mettre à jour
+	 * l'index des suffixes.
+	 * @param word le mot à insérer
+	 */
+	private void insertInTree(String word) {
 		// Lazy initalisation, on crée le noeud racine lorsqu'on en aura besoin et non
 		// au démarrage de l'application.
 		if(root == null) {
 			root = new TrieNode();
+		} else if (root.isShared()) {
+			// La racine est partagée avec un autre arbre (voir union, intersection et difference)
+			root = root.copy();
 		}
 	    if (word.isEmpty()) {
 	        if (!root.isWord()) {
 	            root.setIsWord(true);
-	            size++;
+	            if (size != UNKNOWN_SIZE) {
+	                size++;
+	            }
 	        }
 	        return;
 	    }
@@ -97,13 +359,19 @@ public class LexicographicTree {
 	        if (next == null) {
 	            next = new TrieNode();
 	            current.setChild(c, next);
+	        } else if (next.isShared()) {
+	        	// Le sous-arbre est partagé avec un autre arbre : on copie le noeud avant de le modifier
+	        	next = next.copy();
+	            current.setChild(c, next);
 	        }
 	        current = next;
 	    }
 	    // Marquer le noeud comme final
 	    if (!current.isWord() && i == wordChars.length) {
 	        current.setIsWord(true);
-	        size++;
+	        if (size != UNKNOWN_SIZE) {
+	            size++;
+	        }
 	    }
 	}
 
@@ -116,27 +384,81 @@ public class LexicographicTree {
 	 * @return True if the word is present, false otherwise
 	 */
 	public boolean containsWord(String word) {
-		if(root == null) {
-			root = new TrieNode();
-		}
-		if(word.length() == 0) {
-			return root.isWord();
-		}
-		if(word == null || root.getChild(word.charAt(0)) == null) {
-			return false;
-		}
-		char[] wordChars = word.toCharArray();
-        TrieNode current = root.getChild(wordChars[0]);
-        char c;
-        for (int i = 1; i < wordChars.length; i++) {
-        	// Explorer de manière arborescente
-            c = wordChars[i];
-            current = current.getChild(c);
-            if (current == null) {
-                return false;
-            }
-        }
-        return current.isWord();
+		return containsWord(word, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si un mot est présent dans l'arbre sans créer de chaine
+	 * intermédiaire : un {@code StringBuilder} peut par exemple être passé directement.
+	 * @param word un mot
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(CharSequence word) {
+		return containsWord(word, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si un mot est présent dans l'arbre, en convertissant
+	 * éventuellement les majuscules en minuscules au fil du parcours (sans appel à {@code toLowerCase()}).
+	 * @param word un mot
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(CharSequence word, boolean ignoreCase) {
+		TrieNode node = findNode(word, ignoreCase);
+		return node != null && node.isWord();
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le mot formé par une portion d'un tableau de caractères
+	 * est présent dans l'arbre. Aucun objet n'est alloué lors de la recherche.
+	 * @param chars le tableau contenant le mot
+	 * @param offset la position du premier caractère du mot
+	 * @param length la longueur du mot
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(char[] chars, int offset, int length) {
+		return containsWord(chars, offset, length, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le mot formé par une portion d'un tableau de caractères
+	 * est présent dans l'arbre, en ignorant éventuellement la casse.
+	 * @param chars le tableau contenant le mot
+	 * @param offset la position du premier caractère du mot
+	 * @param length la longueur du mot
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(char[] chars, int offset, int length, boolean ignoreCase) {
+		TrieNode node = findNode(chars, offset, length, ignoreCase);
+		return node != null && node.isWord();
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le mot formé par une portion d'un tableau d'octets
+	 * (ASCII ou ISO-8859-1, un octet par caractère) est présent dans l'arbre, sans le décoder au préalable.
+	 * @param bytes le tableau contenant le mot
+	 * @param offset la position du premier octet du mot
+	 * @param length la longueur du mot
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(byte[] bytes, int offset, int length) {
+		return containsWord(bytes, offset, length, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le mot formé par une portion d'un tableau d'octets
+	 * (ASCII ou ISO-8859-1) est présent dans l'arbre, en ignorant éventuellement la casse.
+	 * @param bytes le tableau contenant le mot
+	 * @param offset la position du premier octet du mot
+	 * @param length la longueur du mot
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(byte[] bytes, int offset, int length, boolean ignoreCase) {
+		TrieNode node = findNode(bytes, offset, length, ignoreCase);
+		return node != null && node.isWord();
 	}
 	
 	/**
@@ -146,24 +468,144 @@ public class LexicographicTree {
 	 * @return true si le préfixe donné en paramètre se trouve dans l'arbre, false sinon.
 	 */
 	public boolean containsPrefix(String prefix) {
-		// Si la première lettre n'est pas contenu dans les lettres racine, ça ne sert à rien d'aller plus loin.
-		if(prefix == null || prefix.length() == 0 || root.getChild(prefix.charAt(0)) == null) {
-			return false;
-		}
-		char[] prefixChars = prefix.toCharArray();
-		TrieNode current = root;
-		// Parcours de chaque caractère du préfixe donné en paramètre en appliquant des conditions afin de savoir s'il se trouve dans l'arbre
-		// pour pouvoir construire un mot
-		for (char c : prefixChars) {
-			int charIndex = root.charToIndex(c);
-			if(charIndex == -1 || current.getChildren() == null || current.getNumbersOfChildren() <= charIndex || current.getChildren()[charIndex] == null) {
-				return false;
-			}
-			current = current.getChild(c);
-		}
-		return true;
+		return prefix != null && containsPrefix(prefix, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si un préfixe se trouve dans l'arbre sans créer de chaine intermédiaire.
+	 * @param prefix le préfixe souhaité
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(CharSequence prefix) {
+		return containsPrefix(prefix, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si un préfixe se trouve dans l'arbre, en ignorant éventuellement la casse.
+	 * @param prefix le préfixe souhaité
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(CharSequence prefix, boolean ignoreCase) {
+		return prefix.length() > 0 && findNode(prefix, ignoreCase) != null;
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le préfixe formé par une portion d'un tableau de caractères se trouve dans l'arbre.
+	 * @param chars le tableau contenant le préfixe
+	 * @param offset la position du premier caractère du préfixe
+	 * @param length la longueur du préfixe
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(char[] chars, int offset, int length) {
+		return containsPrefix(chars, offset, length, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le préfixe formé par une portion d'un tableau de caractères se trouve dans l'arbre.
+	 * @param chars le tableau contenant le préfixe
+	 * @param offset la position du premier caractère du préfixe
+	 * @param length la longueur du préfixe
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(char[] chars, int offset, int length, boolean ignoreCase) {
+		return length > 0 && findNode(chars, offset, length, ignoreCase) != null;
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le préfixe formé par une portion d'un tableau d'octets
+	 * (ASCII ou ISO-8859-1) se trouve dans l'arbre.
+	 * @param bytes le tableau contenant le préfixe
+	 * @param offset la position du premier octet du préfixe
+	 * @param length la longueur du préfixe
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(byte[] bytes, int offset, int length) {
+		return containsPrefix(bytes, offset, length, false);
+	}
+	
+	/**
+	 * Cette méthode permet de déterminer si le préfixe formé par une portion d'un tableau d'octets
+	 * (ASCII ou ISO-8859-1) se trouve dans l'arbre.
+	 * @param bytes le tableau contenant le préfixe
+	 * @param offset la position du premier octet du préfixe
+	 * @param length la longueur du préfixe
+	 * @param ignoreCase true pour ignorer la casse des lettres de 'A' à 'Z'
+	 * @return true si le préfixe (non vide) se trouve dans l'arbre, false sinon
+	 */
+	public boolean containsPrefix(byte[] bytes, int offset, int length, boolean ignoreCase) {
+		return length > 0 && findNode(bytes, offset, length, ignoreCase) != null;
 	}
 
+	/**
+	 * Cette méthode retourne le plus petit mot de l'arbre supérieur ou égal au mot donné,
+	 * dans l'ordre de l'arbre (de 'a' à 'z', puis le tiret et l'apostrophe).
+	 * @param word le mot de référence
+	 * @return le mot trouvé, ou null s'il n'en existe pas
+	 * @throws IllegalArgumentException si le mot contient un caractère inconnu de l'arbre
+	 */
+	public String ceiling(String word) {
+		checkWord(word);
+		WordIterator iterator = WordIterator.startingAt(root, word);
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+	
+	/**
+	 * Cette méthode retourne le plus petit mot de l'arbre strictement supérieur au mot donné.
+	 * @param word le mot de référence
+	 * @return le mot trouvé, ou null s'il n'en existe pas
+	 * @throws IllegalArgumentException si le mot contient un caractère inconnu de l'arbre
+	 */
+	public String higher(String word) {
+		checkWord(word);
+		WordIterator iterator = WordIterator.startingAt(root, word);
+		String next = iterator.hasNext() ? iterator.next() : null;
+		if (word.equals(next)) {
+			next = iterator.hasNext() ? iterator.next() : null;
+		}
+		return next;
+	}
+	
+	/**
+	 * Cette méthode retourne le plus grand mot de l'arbre inférieur ou égal au mot donné.
+	 * @param word le mot de référence
+	 * @return le mot trouvé, ou null s'il n'en existe pas
+	 * @throws IllegalArgumentException si le mot contient un caractère inconnu de l'arbre
+	 */
+	public String floor(String word) {
+		checkWord(word);
+		return lowerWord(word, true);
+	}
+	
+	/**
+	 * Cette méthode retourne le plus grand mot de l'arbre strictement inférieur au mot donné.
+	 * @param word le mot de référence
+	 * @return le mot trouvé, ou null s'il n'en existe pas
+	 * @throws IllegalArgumentException si le mot contient un caractère inconnu de l'arbre
+	 */
+	public String lower(String word) {
+		checkWord(word);
+		return lowerWord(word, false);
+	}
+	
+	/**
+	 * Cette méthode retourne un flux paresseux des mots compris entre deux bornes, dans l'ordre de l'arbre.
+	 * Le parcours commence directement au premier mot de l'intervalle, sans énumérer les mots qui le précèdent.
+	 * @param from la borne inférieure (incluse)
+	 * @param to la borne supérieure (exclue)
+	 * @return le flux des mots de l'intervalle [from, to)
+	 * @throws IllegalArgumentException si une borne contient un caractère inconnu de l'arbre
+	 */
+	public Stream<String> range(String from, String to) {
+		checkWord(from);
+		checkWord(to);
+		if (TREE_ORDER.compare(from, to) >= 0) {
+			return Stream.empty();
+		}
+		return toStream(WordIterator.startingAt(root, from)).takeWhile(word -> TREE_ORDER.compare(word, to) < 0);
+	}
+	
 	/**
 	 * Returns an alphabetic list of all words starting with the supplied prefix.
 	 * If 'prefix' is an empty string, all words are returned.
@@ -171,20 +613,17 @@ public class LexicographicTree {
 	 * @return The list of words starting with the supplied prefix
 	 */
 	public List<String> getWords(String prefix) {
-		if (root == null) {
-			root = new TrieNode();
-		}
 		List<String> words = new ArrayList<>();
 		TrieNode node = root;
 
 		// Il faut obligatoirement trouver le préfixe dans l'arbre afin de construire
 		// les mots. Sinon, on retourne la liste vide.
-		for (int i = 0; i < prefix.length(); i++) {
+		for (int i = 0; i < prefix.length() && node != null; i++) {
 			char c = prefix.charAt(i);
 			node = node.getChild(c);
-			if (node == null) {
-				return words;
-			}
+		}
+		if (node == null) {
+			return words;
 		}
 
 		// Une fois arrivé au dernier noeud du préfixe, il est temps de construire tous
@@ -203,12 +642,9 @@ public class LexicographicTree {
 	 * @return The list of words with the given length
 	 */
 	public List<String> getWordsOfLength(int length) {
-		if(root == null) {
-			root = new TrieNode();
-		}
 	    List<String> words = new ArrayList<>();
 	    // 27 caractères correspond au plus long mot que l'on peut trouver en français, à savoir "intergouvernementalisations"
-	    if(length <= 0 || length > 27) {
+	    if(root == null || length <= 0 || length > 27) {
 	    	return words;
 	    }
 	    StringBuilder sb = new StringBuilder(length);
@@ -218,6 +654,56 @@ public class LexicographicTree {
 
 	
 	
+	/**
+	 * Cette méthode retourne, comme {@link #getWords(String)}, la liste alphabétique des mots commençant
+	 * par le préfixe donné, mais répartit l'énumération des sous-arbres sur le pool fork/join commun.
+	 * @param prefix le préfixe souhaité
+	 * @return la liste des mots commençant par le préfixe
+	 */
+	public List<String> getWordsParallel(String prefix) {
+		return getWordsParallel(prefix, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Cette méthode retourne la liste alphabétique des mots commençant par le préfixe donné en répartissant
+	 * l'énumération des sous-arbres sur le pool donné. Les sous-arbres déséquilibrés sont rééquilibrés par
+	 * le vol de tâches du pool, puis les listes partielles sont concaténées dans l'ordre alphabétique.
+	 * @param prefix le préfixe souhaité
+	 * @param pool le pool exécutant l'énumération
+	 * @return la liste des mots commençant par le préfixe
+	 */
+	public List<String> getWordsParallel(String prefix, ForkJoinPool pool) {
+		TrieNode node = findNode(prefix);
+		if (node == null) {
+			return new ArrayList<>();
+		}
+		return pool.invoke(new WordsTask(node, prefix, 0, 0));
+	}
+	
+	/**
+	 * Cette méthode retourne, comme {@link #getWordsOfLength(int)}, la liste alphabétique des mots de
+	 * la longueur donnée, en répartissant l'énumération sur le pool fork/join commun.
+	 * @param length la longueur des mots souhaités
+	 * @return la liste des mots de la longueur donnée
+	 */
+	public List<String> getWordsOfLengthParallel(int length) {
+		return getWordsOfLengthParallel(length, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Cette méthode retourne la liste alphabétique des mots de la longueur donnée, en répartissant
+	 * l'énumération sur le pool donné.
+	 * @param length la longueur des mots souhaités
+	 * @param pool le pool exécutant l'énumération
+	 * @return la liste des mots de la longueur donnée
+	 */
+	public List<String> getWordsOfLengthParallel(int length, ForkJoinPool pool) {
+		if (root == null || length <= 0 || length > 27) {
+			return new ArrayList<>();
+		}
+		return pool.invoke(new WordsTask(root, "", 0, length));
+	}
+	
 	/**
 	 * Cette méthode de permet de vérifier si des mots ont des lettres répétées.
 	 * @param word un mot
@@ -265,6 +751,290 @@ public class LexicographicTree {
 	 */
 	
 	
+	/**
+	 * Cette méthode permet de construire le résultat d'une opération ensembliste entre l'arbre courant et
+	 * l'arbre donné. Les index des suffixes sont fusionnés de la même manière lorsque les deux arbres en possèdent un,
+	 * l'inversion des mots ne changeant pas le résultat de l'opération.
+	 * @param other l'autre arbre
+	 * @param operation UNION, INTERSECTION ou DIFFERENCE
+	 * @return le nouvel arbre
+	 */
+	private LexicographicTree merge(LexicographicTree other, int operation) {
+		LexicographicTree result = new LexicographicTree();
+		result.root = mergeNodes(root, other.root, operation);
+		// Compter les mots ici parcourrait de nouveau chaque sous-arbre réutilisé : ils le seront à la demande
+		result.size = UNKNOWN_SIZE;
+		if (suffixIndex != null && other.suffixIndex != null) {
+			result.suffixIndex = suffixIndex.merge(other.suffixIndex, operation);
+		}
+		return result;
+	}
+	
+	/**
+	 * Cette méthode permet de fusionner récursivement deux noeuds situés au même emplacement dans leurs arbres respectifs.
+	 * Lorsque le résultat correspond exactement à l'un des sous-arbres (même marque de fin de mot et mêmes enfants,
+	 * après fusion de ceux-ci), celui-ci est marqué comme partagé et réutilisé au lieu d'allouer un nouveau noeud.
+	 * @param a le noeud du premier arbre (peut être null)
+	 * @param b le noeud du second arbre (peut être null)
+	 * @param operation UNION, INTERSECTION ou DIFFERENCE
+	 * @return le noeud résultant, ou null si le sous-arbre résultant ne contient aucun mot
+	 */
+	private static TrieNode mergeNodes(TrieNode a, TrieNode b, int operation) {
+		if (a == null && b == null) {
+			return null;
+		}
+		switch (operation) {
+		case UNION:
+			if (a == null || a == b) {
+				return share(b);
+			} else if (b == null) {
+				return share(a);
+			}
+			break;
+		case INTERSECTION:
+			if (a == null || b == null) {
+				return null;
+			} else if (a == b) {
+				return share(a);
+			}
+			break;
+		default:
+			if (a == null || a == b) {
+				return null;
+			} else if (b == null) {
+				return share(a);
+			}
+			break;
+		}
+		
+		boolean isWord;
+		if (operation == UNION) {
+			isWord = a.isWord() || b.isWord();
+		} else if (operation == INTERSECTION) {
+			isWord = a.isWord() && b.isWord();
+		} else {
+			isWord = a.isWord() && !b.isWord();
+		}
+		int childCount = Math.max(a.getNumbersOfChildren(), b.getNumbersOfChildren());
+		TrieNode[] children = new TrieNode[childCount];
+		boolean sameAsA = isWord == a.isWord();
+		boolean sameAsB = isWord == b.isWord();
+		boolean empty = true;
+		for (int i = 0; i < childCount; i++) {
+			TrieNode child = mergeNodes(childAt(a, i), childAt(b, i), operation);
+			children[i] = child;
+			sameAsA &= child == childAt(a, i);
+			sameAsB &= child == childAt(b, i);
+			empty &= child == null;
+		}
+		// Un noeud qui n'est ni un mot ni le préfixe d'un mot n'a pas lieu d'être conservé
+		if (!isWord && empty) {
+			return null;
+		} else if (sameAsA) {
+			return share(a);
+		} else if (sameAsB) {
+			return share(b);
+		}
+		TrieNode node = new TrieNode();
+		node.setIsWord(isWord);
+		// Parcours en sens inverse : le tableau des enfants est ainsi alloué une seule fois, à la bonne taille
+		for (int i = childCount - 1; i >= 0; i--) {
+			if (children[i] != null) {
+				node.setChild(node.indexToChar(i), children[i]);
+			}
+		}
+		return node;
+	}
+	
+	private static TrieNode childAt(TrieNode node, int index) {
+		TrieNode[] children = node.getChildren();
+		return children != null && index < children.length ? children[index] : null;
+	}
+	
+	/**
+	 * Cette méthode permet de réutiliser un sous-arbre existant dans le résultat d'une fusion.
+	 * @param node le sous-arbre à réutiliser
+	 * @return le sous-arbre, marqué comme partagé
+	 */
+	private static TrieNode share(TrieNode node) {
+		node.markShared();
+		return node;
+	}
+	
+	/**
+	 * Cette méthode permet de compter les mots contenus dans un sous-arbre.
+	 * @param node la racine du sous-arbre
+	 * @return le nombre de mots du sous-arbre
+	 */
+	static int countWords(TrieNode node) {
+		int count = node.isWord() ? 1 : 0;
+		TrieNode[] children = node.getChildren();
+		if (children != null) {
+			for (TrieNode child : children) {
+				if (child != null) {
+					count += countWords(child);
+				}
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Cette méthode permet de récupérer le noeud correspondant au dernier caractère du préfixe donné.
+	 * @param prefix le préfixe recherché
+	 * @return le noeud atteint, ou null si le préfixe n'est pas présent dans l'arbre
+	 */
+	private TrieNode findNode(CharSequence prefix) {
+		return findNode(prefix, false);
+	}
+	
+	/**
+	 * Cette méthode permet de récupérer le noeud correspondant au dernier caractère du préfixe donné,
+	 * en convertissant éventuellement les majuscules au fil du parcours.
+	 * @param prefix le préfixe recherché
+	 * @param ignoreCase true pour ignorer la casse
+	 * @return le noeud atteint, ou null si le préfixe n'est pas présent dans l'arbre
+	 */
+	private TrieNode findNode(CharSequence prefix, boolean ignoreCase) {
+		TrieNode node = root;
+		for (int i = 0, length = prefix.length(); i < length && node != null; i++) {
+			char c = prefix.charAt(i);
+			node = node.getChild(ignoreCase ? foldCase(c) : c);
+		}
+		return node;
+	}
+	
+	private TrieNode findNode(char[] chars, int offset, int length, boolean ignoreCase) {
+		Objects.checkFromIndexSize(offset, length, chars.length);
+		TrieNode node = root;
+		for (int i = offset, end = offset + length; i < end && node != null; i++) {
+			char c = chars[i];
+			node = node.getChild(ignoreCase ? foldCase(c) : c);
+		}
+		return node;
+	}
+	
+	private TrieNode findNode(byte[] bytes, int offset, int length, boolean ignoreCase) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		TrieNode node = root;
+		for (int i = offset, end = offset + length; i < end && node != null; i++) {
+			char c = (char) (bytes[i] & 0xFF);
+			node = node.getChild(ignoreCase ? foldCase(c) : c);
+		}
+		return node;
+	}
+	
+	/**
+	 * Cette méthode permet de convertir une lettre majuscule (de 'A' à 'Z') en minuscule,
+	 * sans passer par les tables Unicode de {@link Character#toLowerCase(char)}.
+	 * @param c un caractère
+	 * @return la minuscule correspondante, ou le caractère lui-même
+	 */
+	private static char foldCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+	
+	/**
+	 * Cette méthode permet de vérifier qu'un mot ne contient que des caractères connus de l'arbre.
+	 * @param word le mot à vérifier
+	 * @throws IllegalArgumentException si le mot contient un autre caractère
+	 */
+	private static void checkWord(String word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (charOrder(word.charAt(i)) >= 28) {
+				throw new IllegalArgumentException("Caractère invalide '" + word.charAt(i) + "' dans le mot : " + word);
+			}
+		}
+	}
+	
+	/**
+	 * Cette méthode permet de rechercher le plus grand mot inférieur (ou égal) au mot donné.
+	 * Le chemin du mot est parcouru une fois, puis on remonte ce chemin en cherchant, à chaque niveau,
+	 * le plus grand enfant précédant le caractère du mot ; à défaut, le préfixe lui-même s'il est un mot.
+	 * @param word le mot de référence
+	 * @param inclusive true si le mot lui-même peut être retourné
+	 * @return le mot trouvé, ou null s'il n'en existe pas
+	 */
+	private String lowerWord(String word, boolean inclusive) {
+		if (root == null) {
+			return null;
+		}
+		TrieNode[] path = new TrieNode[word.length() + 1];
+		path[0] = root;
+		int depth = 0;
+		while (depth < word.length()) {
+			TrieNode child = path[depth].getChild(word.charAt(depth));
+			if (child == null) {
+				break;
+			}
+			path[++depth] = child;
+		}
+		if (depth == word.length() && inclusive && path[depth].isWord()) {
+			return word;
+		}
+		StringBuilder currentWord = new StringBuilder(word);
+		for (int i = Math.min(depth, word.length() - 1); i >= 0; i--) {
+			TrieNode node = path[i];
+			TrieNode[] children = node.getChildren();
+			int end = children == null ? 0 : Math.min(node.charToIndex(word.charAt(i)), children.length);
+			for (int j = end - 1; j >= 0; j--) {
+				currentWord.setLength(i);
+				if (children[j] != null && appendLastWord(children[j], currentWord.append(node.indexToChar(j)))) {
+					return currentWord.toString();
+				}
+			}
+			if (node.isWord()) {
+				currentWord.setLength(i);
+				return currentWord.toString();
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Cette méthode permet de compléter un préfixe avec le plus grand mot du sous-arbre correspondant.
+	 * @param node le noeud atteint par le préfixe
+	 * @param currentWord le préfixe, complété par le mot trouvé
+	 * @return true si le sous-arbre contient au moins un mot, false sinon
+	 */
+	private static boolean appendLastWord(TrieNode node, StringBuilder currentWord) {
+		TrieNode[] children = node.getChildren();
+		int length = currentWord.length();
+		for (int j = children == null ? -1 : children.length - 1; j >= 0; j--) {
+			if (children[j] != null && appendLastWord(children[j], currentWord.append(node.indexToChar(j)))) {
+				return true;
+			}
+			currentWord.setLength(length);
+		}
+		return node.isWord();
+	}
+	
+	private static String reverse(String word) {
+		return new StringBuilder(word).reverse().toString();
+	}
+	
+	/**
+	 * Cette méthode retourne la position d'un caractère dans l'ordre de l'arbre. Les caractères
+	 * inconnus de l'arbre sont placés après tous les autres.
+	 * @param c un caractère
+	 * @return la position du caractère dans l'ordre de l'arbre
+	 */
+	private static int charOrder(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		} else if (c == '-') {
+			return 26;
+		} else if (c == '\'') {
+			return 27;
+		}
+		return 28 + c;
+	}
+	
+	private static Stream<String> toStream(WordIterator iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+	
 	/**
 	 * Cette méthode permet de rechercher récursivement tous les mots de l'arbre.
 	 * Le mots trouvés sont ajoutés à la liste "words"
@@ -283,7 +1053,7 @@ public class LexicographicTree {
 	        for (int i = 0; i < children.length; i++) {
 	            TrieNode child = children[i];
 	            if (child != null) {
-	                char c = root.indexToChar(i);
+	                char c = node.indexToChar(i);
 	                currentWord.append(c);
 	                searchWordsRecursivity(child, words, currentWord);
 	                // Enlever le caractère qui vient d'être ajouté pour ce tour de boucle
@@ -315,7 +1085,7 @@ public class LexicographicTree {
 	             for (int i = 0; i < children.length; i++) {
 	                 TrieNode child = children[i];
 	                 if (child != null) {
-	                     char c = root.indexToChar(i);
+	                     char c = node.indexToChar(i);
 	                     currentWord.append(c);
 	                     // si le mot courant est de même taille que la longueur souhaitée alors on continue la récursion.
 	                     // ou si le noeud courant a des enfants, on continue également la récursion (car cela signfie qu'on n'a pas encore
@@ -331,6 +1101,58 @@ public class LexicographicTree {
 	    }
 	}
 	
+	/**
+	 * Tâche fork/join énumérant les mots d'un sous-arbre. Les premiers niveaux sous le noeud de départ
+	 * sont découpés en une tâche par enfant ; au-delà, l'énumération est séquentielle.
+	 */
+	private class WordsTask extends RecursiveTask<List<String>> {
+		private static final long serialVersionUID = 1L;
+		// Nombre de niveaux découpés en sous-tâches (jusqu'à 28 x 28 tâches pour l'arbre complet)
+		private static final int SPLIT_DEPTH = 2;
+
+		private final TrieNode node;
+		private final String word;
+		private final int depth;
+		// Longueur des mots recherchés, ou 0 pour tous les mots
+		private final int length;
+
+		WordsTask(TrieNode node, String word, int depth, int length) {
+			this.node = node;
+			this.word = word;
+			this.depth = depth;
+			this.length = length;
+		}
+
+		@Override
+		protected List<String> compute() {
+			List<String> words = new ArrayList<>();
+			TrieNode[] children = node.getChildren();
+			if (depth >= SPLIT_DEPTH || children == null || (length > 0 && word.length() >= length)) {
+				if (length > 0) {
+					searchWordsOfLenghRecursivity(length, new StringBuilder(word), node, words);
+				} else {
+					searchWordsRecursivity(node, words, new StringBuilder(word));
+				}
+				return words;
+			}
+			if (length == 0 && node.isWord()) {
+				words.add(word);
+			}
+			List<WordsTask> subtasks = new ArrayList<>();
+			for (int i = 0; i < children.length; i++) {
+				if (children[i] != null) {
+					subtasks.add(new WordsTask(children[i], word + node.indexToChar(i), depth + 1, length));
+				}
+			}
+			invokeAll(subtasks);
+			// Concaténation des résultats partiels dans l'ordre des enfants, donc dans l'ordre alphabétique
+			for (WordsTask subtask : subtasks) {
+				words.addAll(subtask.join());
+			}
+			return words;
+		}
+	}
+	
 	/*
 	 * TEST FUNCTIONS
 	 */
@@ -408,6 +1230,43 @@ public class LexicographicTree {
 		
 		
 
+		// Search existing words with the allocation-free overloads (char[] and case folding)
+		System.out.println("Searching existing words in upper case without allocation...");
+		List<char[]> upperCaseWords = new ArrayList<>();
+		for (String word : dico.getWords("")) {
+			upperCaseWords.add(word.toUpperCase().toCharArray());
+		}
+		startTime = System.currentTimeMillis();
+		long allocatedBefore = allocatedBytes();
+		long lookups = 0;
+		for (int i = 0; i < repeatCount; i++) {
+			for (char[] word : upperCaseWords) {
+				if (!dico.containsWord(word, 0, word.length, true)) {
+					System.out.println(new String(word) + " -> false");
+				}
+				lookups++;
+			}
+		}
+		long allocated = allocatedBytes() - allocatedBefore;
+		System.out.println("Search time : " + (System.currentTimeMillis() - startTime) / 1000.0);
+		System.out.printf("Allocated bytes per lookup : %.3f%n", allocated < 0 ? Double.NaN : (double) allocated / lookups);
+		System.out.println();
+
+		// Enumerate all words, sequentially then with fork/join
+		startTime = System.currentTimeMillis();
+		System.out.println("Enumerating all words...");
+		for (int i = 0; i < repeatCount; i++) {
+			dico.getWords("");
+		}
+		System.out.println("Sequential time : " + (System.currentTimeMillis() - startTime) / 1000.0);
+		startTime = System.currentTimeMillis();
+		for (int i = 0; i < repeatCount; i++) {
+			dico.getWordsParallel("");
+		}
+		System.out.println("Parallel time (" + ForkJoinPool.getCommonPoolParallelism() + " threads) : "
+				+ (System.currentTimeMillis() - startTime) / 1000.0);
+		System.out.println();
+
 		// Search words of increasing length in dictionary
 		startTime = System.currentTimeMillis();
 		System.out.println("Searching for words of increasing length...");
@@ -425,6 +1284,18 @@ public class LexicographicTree {
 		System.out.println();
 	}
 
+	/**
+	 * Retourne le nombre d'octets alloués jusqu'ici par le thread courant (équivalent de {@code -prof gc}
+	 * sans JMH), ou -1 si la machine virtuelle ne le permet pas.
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
 	private static void testDictionarySize() {
 		final int MB = 1024 * 1024;
 		System.out.print(Runtime.getRuntime().totalMemory()/MB + " / ");
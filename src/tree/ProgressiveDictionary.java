@@ -0,0 +1,326 @@
+package tree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dictionnaire chargé progressivement en arrière-plan, obtenu avec {@link DictionaryLoader#loadAsync(String)}.
+ *
+ * <p>Le fichier est d'abord lu en mémoire et découpé en tranches selon la première lettre (normalisée) de
+ * chaque mot : une tranche par lettre, plus une tranche pour les mots commençant par un tiret ou une
+ * apostrophe. Pour un fichier trié, chaque tranche est une seule portion contiguë du fichier. Les tranches
+ * sont ensuite construites indépendamment, en parallèle sur l'exécuteur fourni.</p>
+ *
+ * <p>Le dictionnaire est utilisable dès sa création : une recherche n'attend que la tranche correspondant à
+ * la première lettre du mot ou du préfixe recherché. Si cette tranche n'est pas encore en cours de
+ * construction, le thread appelant la construit lui-même plutôt que d'attendre son tour. Lorsque toutes les
+ * tranches sont prêtes, elles sont réunies (sans copie des noeuds) dans l'arbre complet obtenu par
+ * {@link #whenLoaded()}.</p>
+ *
+ * <p>Les fichiers compressés et les encodages qui ne sont pas décodés directement par le chargeur sont chargés
+ * en une seule fois : toutes les recherches attendent alors la fin du chargement. L'index des suffixes n'est
+ * pas construit par ce chargement.</p>
+ */
+public class ProgressiveDictionary {
+
+	// Une tranche par lettre, plus une pour le tiret et l'apostrophe
+	private static final int SHARD_COUNT = 27;
+
+	private final DictionaryLoader loader;
+	private final Shard[] shards = new Shard[SHARD_COUNT];
+	// Complétée lorsque le fichier a été lu et découpé en tranches
+	private final CompletableFuture<Void> split;
+	private final CompletableFuture<LexicographicTree> loaded;
+	private volatile byte[] bytes;
+
+	/**
+	 * Constructeur : lance le chargement en arrière-plan.
+	 * @param loader le chargeur utilisé pour analyser les tranches
+	 * @param path le fichier contenant un mot par ligne
+	 * @param executor l'exécuteur chargeant les tranches
+	 */
+	ProgressiveDictionary(DictionaryLoader loader, Path path, Executor executor) {
+		this.loader = loader;
+		for (int i = 0; i < SHARD_COUNT; i++) {
+			shards[i] = new Shard();
+		}
+		this.split = CompletableFuture.runAsync(() -> split(path), executor);
+		split.whenComplete((ignored, error) -> {
+			for (Shard shard : shards) {
+				if (error != null) {
+					shard.future.completeExceptionally(error);
+				} else {
+					executor.execute(() -> shard.build(this));
+				}
+			}
+		});
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[SHARD_COUNT];
+		for (int i = 0; i < SHARD_COUNT; i++) {
+			futures[i] = shards[i].future;
+		}
+		this.loaded = CompletableFuture.allOf(futures).thenApply(ignored -> assemble());
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @return une tâche complétée avec l'arbre contenant tous les mots, une fois toutes les tranches chargées
+	 */
+	public CompletableFuture<LexicographicTree> whenLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Cette méthode retourne une tâche complétée lorsque les mots commençant par le préfixe donné sont chargés.
+	 * @param prefix un préfixe (chaine vide pour attendre le chargement complet)
+	 * @return une tâche complétée avec l'arbre permettant de rechercher les mots commençant par ce préfixe
+	 */
+	public CompletableFuture<LexicographicTree> whenReady(String prefix) {
+		if (prefix.isEmpty() || shardIndex(prefix.charAt(0)) < 0) {
+			return loaded;
+		}
+		Shard shard = shards[shardIndex(prefix.charAt(0))];
+		return split.thenCompose(ignored -> shard.future);
+	}
+
+	/**
+	 * @param prefix un préfixe
+	 * @return true si les mots commençant par ce préfixe sont déjà chargés
+	 */
+	public boolean isReady(String prefix) {
+		return whenReady(prefix).isDone();
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si un mot est présent, en attendant au besoin le chargement de sa tranche.
+	 * @param word un mot
+	 * @return true si le mot est présent, false sinon
+	 */
+	public boolean containsWord(String word) {
+		LexicographicTree tree = treeFor(word);
+		return tree != null && tree.containsWord(word);
+	}
+
+	/**
+	 * Cette méthode permet de déterminer si un préfixe est présent, en attendant au besoin le chargement de sa tranche.
+	 * @param prefix un préfixe
+	 * @return true si au moins un mot commence par ce préfixe, false sinon
+	 */
+	public boolean containsPrefix(String prefix) {
+		LexicographicTree tree = treeFor(prefix);
+		return tree != null && tree.containsPrefix(prefix);
+	}
+
+	/**
+	 * Cette méthode retourne, dans l'ordre alphabétique, les mots commençant par un préfixe, en attendant au
+	 * besoin le chargement de sa tranche (de toutes les tranches si le préfixe est vide).
+	 * @param prefix un préfixe
+	 * @return la liste des mots commençant par ce préfixe
+	 */
+	public List<String> getWords(String prefix) {
+		LexicographicTree tree = treeFor(prefix);
+		return tree == null ? new ArrayList<>() : tree.getWords(prefix);
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static int shardIndex(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		} else if (c == '-' || c == '\'') {
+			return SHARD_COUNT - 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Cette méthode retourne l'arbre permettant de répondre à une recherche. Si la tranche concernée n'est pas
+	 * encore en cours de construction, elle est construite immédiatement par le thread appelant.
+	 * @param prefix le mot ou le préfixe recherché
+	 * @return l'arbre de la tranche (l'arbre complet pour un préfixe vide), ou null si aucun mot ne peut
+	 * commencer par ce préfixe
+	 */
+	private LexicographicTree treeFor(String prefix) {
+		if (prefix.isEmpty()) {
+			return loaded.join();
+		}
+		int index = shardIndex(prefix.charAt(0));
+		if (index < 0) {
+			return null;
+		}
+		split.join();
+		Shard shard = shards[index];
+		shard.build(this);
+		return shard.future.join();
+	}
+
+	/**
+	 * Cette méthode permet de lire le fichier et de répartir ses lignes entre les tranches. Lorsque le fichier
+	 * ne peut pas être découpé, il est chargé entièrement et toutes les tranches reçoivent l'arbre complet.
+	 * @param path le fichier à charger
+	 */
+	private void split(Path path) {
+		byte[] content;
+		try {
+			content = Files.readAllBytes(path);
+			if (!loader.canSplit(content, content.length)) {
+				LexicographicTree tree = loader.load(path);
+				for (Shard shard : shards) {
+					shard.claimed.set(true);
+					shard.future.complete(tree);
+				}
+				return;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		for (int start = 0, end; start < content.length; start = end) {
+			end = start;
+			while (end < content.length && content[end++] != '\n') {
+				// Recherche de la fin de la ligne
+			}
+			int index = shardIndex(loader.firstLetter(content, start, end));
+			if (index >= 0) {
+				shards[index].addRange(start, end);
+			}
+		}
+		bytes = content;
+	}
+
+	/**
+	 * Cette méthode permet de réunir les tranches dans un seul arbre. Les noeuds de premier niveau de chaque
+	 * tranche deviennent les enfants de la nouvelle racine ; ils sont marqués comme partagés afin qu'une
+	 * insertion dans l'arbre complet ne modifie pas les tranches. Si deux tranches ont un noeud pour la même
+	 * lettre (par exemple la tranche du tiret et de l'apostrophe avec une autre), ces noeuds sont fusionnés.
+	 * @return l'arbre complet
+	 */
+	private LexicographicTree assemble() {
+		LexicographicTree first = shards[0].future.join();
+		if (Arrays.stream(shards).allMatch(shard -> shard.future.join() == first)) {
+			// Chargement en une seule fois
+			return first;
+		}
+		TrieNode root = new TrieNode();
+		int size = 0;
+		boolean merged = false;
+		for (Shard shard : shards) {
+			LexicographicTree tree = shard.future.join();
+			TrieNode shardRoot = tree.getRoot();
+			TrieNode[] children = shardRoot == null ? null : shardRoot.getChildren();
+			for (int i = 0; children != null && i < children.length; i++) {
+				if (children[i] != null) {
+					char c = shardRoot.indexToChar(i);
+					children[i].markShared();
+					TrieNode existing = root.getChild(c);
+					if (existing != null) {
+						root.setChild(c, LexicographicTree.unionNodes(existing, children[i]));
+						merged = true;
+					} else {
+						root.setChild(c, children[i]);
+					}
+				}
+			}
+			size += tree.size();
+		}
+		bytes = null;
+		if (merged) {
+			// Des mots peuvent être présents dans plusieurs tranches
+			size = LexicographicTree.countWords(root);
+		}
+		LexicographicTree tree = new LexicographicTree();
+		tree.install(size == 0 ? null : root, size);
+		return tree;
+	}
+
+	/**
+	 * Tranche du dictionnaire : portions du fichier contenant ses lignes, et arbre construit à partir d'elles.
+	 */
+	private static class Shard {
+		private final CompletableFuture<LexicographicTree> future = new CompletableFuture<>();
+		private final AtomicBoolean claimed = new AtomicBoolean(false);
+		// Positions de début et de fin des portions, deux à deux
+		private int[] ranges = new int[8];
+		private int count;
+
+		private void addRange(int start, int end) {
+			if (count > 0 && ranges[count - 1] == start) {
+				// Portion contiguë à la précédente (fichier trié)
+				ranges[count - 1] = end;
+				return;
+			}
+			if (count == ranges.length) {
+				ranges = Arrays.copyOf(ranges, count * 2);
+			}
+			ranges[count++] = start;
+			ranges[count++] = end;
+		}
+
+		/**
+		 * Cette méthode permet de construire l'arbre de la tranche, sauf si un autre thread s'en charge déjà.
+		 * @param dictionary le dictionnaire contenant le fichier lu
+		 */
+		private void build(ProgressiveDictionary dictionary) {
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				future.complete(dictionary.loader.loadRanges(dictionary.bytes, ranges, count));
+			} catch (Throwable e) {
+				// Sans cela, les recherches dans cette tranche et whenLoaded() attendraient indéfiniment
+				future.completeExceptionally(e);
+				if (e instanceof Error) {
+					throw (Error) e;
+				}
+			} finally {
+				ranges = null;
+			}
+		}
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Compare le temps nécessaire pour répondre à une première recherche avec le temps de chargement complet.
+	 */
+	private static void testTimeToFirstQuery(String filename) {
+		for (int i = 0; i < 5; i++) {
+			long startTime = System.nanoTime();
+			new LexicographicTree(filename);
+			long fullLoad = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(filename);
+			long handle = System.nanoTime() - startTime;
+			boolean found = dictionary.containsWord("zygomatique");
+			long firstQuery = System.nanoTime() - startTime;
+			int size = dictionary.whenLoaded().join().size();
+			long progressiveLoad = System.nanoTime() - startTime;
+
+			System.out.println("Chargement complet : " + fullLoad / 1000000 + " ms, dictionnaire disponible : "
+					+ handle / 1000 + " µs, première recherche (" + found + ") : " + firstQuery / 1000000
+					+ " ms, chargement progressif complet (" + size + " mots) : " + progressiveLoad / 1000000 + " ms");
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) {
+		testTimeToFirstQuery("mots/dictionnaire_FR_sans_accents.txt");
+	}
+}
@@ -0,0 +1,150 @@
+package tree;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Association entre des mots et des valeurs, rangée dans un arbre lexicographique.
+ *
+ * <p>Les clés partagent leurs préfixes comme dans un {@link LexicographicTree} et les valeurs sont stockées
+ * dans un tableau indexé par la position attachée au noeud de chaque clé. Pour des valeurs numériques,
+ * {@link IntTrieMap} et {@link LongTrieMap} évitent en plus l'emballage des valeurs dans des objets.</p>
+ *
+ * <p>Les valeurs null ne sont pas acceptées, comme pour {@link java.util.concurrent.ConcurrentHashMap} :
+ * null signifie toujours qu'une clé est absente.</p>
+ *
+ * @param <V> le type des valeurs
+ */
+public class TrieMap<V> extends AbstractTrieMap {
+
+	private Object[] values = new Object[0];
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * @param key une clé
+	 * @return la valeur associée à la clé, ou null si la clé est absente
+	 * @throws IllegalArgumentException si la clé contient un caractère invalide
+	 */
+	public V get(String key) {
+		int slot = slotOf(key);
+		return slot < 0 ? null : value(slot);
+	}
+
+	/**
+	 * Cette méthode permet d'associer une valeur à une clé.
+	 * @param key une clé
+	 * @param value la valeur (non null)
+	 * @return la valeur précédemment associée à la clé, ou null si la clé était absente
+	 * @throws IllegalArgumentException si la clé contient un caractère invalide
+	 */
+	public V put(String key, V value) {
+		checkValue(value);
+		int slot = addSlot(key);
+		if (slot < 0) {
+			values[~slot] = value;
+			return null;
+		}
+		V previous = value(slot);
+		values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * Cette méthode permet de retirer une clé.
+	 * @param key une clé
+	 * @return la valeur qui était associée à la clé, ou null si la clé était absente
+	 */
+	public V remove(String key) {
+		int slot = removeSlot(key);
+		if (slot < 0) {
+			return null;
+		}
+		V previous = value(slot);
+		values[slot] = null;
+		return previous;
+	}
+
+	/**
+	 * Cette méthode permet de combiner une valeur avec celle déjà associée à une clé, comme
+	 * {@link java.util.Map#merge(Object, Object, BiFunction)}. Si la fonction retourne null, la clé est retirée.
+	 * @param key une clé
+	 * @param value la valeur associée à la clé si elle est absente
+	 * @param remappingFunction la fonction combinant l'ancienne valeur et la nouvelle
+	 * @return la nouvelle valeur associée à la clé, ou null si la clé a été retirée
+	 */
+	public V merge(String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		checkValue(value);
+		int slot = addSlot(key);
+		if (slot < 0) {
+			values[~slot] = value;
+			return value;
+		}
+		V merged = remappingFunction.apply(value(slot), value);
+		if (merged == null) {
+			remove(key);
+		} else {
+			values[slot] = merged;
+		}
+		return merged;
+	}
+
+	/**
+	 * Cette méthode retourne la valeur associée à une clé, en la calculant et en l'ajoutant si la clé est
+	 * absente, comme {@link java.util.Map#computeIfAbsent(Object, Function)}. Si la fonction retourne null,
+	 * rien n'est ajouté.
+	 * @param key une clé
+	 * @param mappingFunction la fonction calculant la valeur d'une clé absente
+	 * @return la valeur associée à la clé, ou null si la fonction a retourné null
+	 */
+	public V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value == null) {
+			value = mappingFunction.apply(key);
+			if (value != null) {
+				put(key, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Cette méthode permet de parcourir, dans l'ordre de l'arbre, les clés commençant par un préfixe
+	 * et leurs valeurs.
+	 * @param prefix le préfixe des clés (chaine vide pour toutes les clés)
+	 * @param action l'action appliquée à chaque clé et à sa valeur
+	 */
+	public void forEach(String prefix, BiConsumer<? super String, ? super V> action) {
+		forEachSlot(prefix, (key, slot) -> action.accept(key, value(slot)));
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	@Override
+	void ensureCapacity(int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values, grow(values.length, capacity));
+		}
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	@SuppressWarnings("unchecked")
+	private V value(int slot) {
+		return (V) values[slot];
+	}
+
+	private static void checkValue(Object value) {
+		if (value == null) {
+			throw new NullPointerException("Les valeurs null ne sont pas acceptées");
+		}
+	}
+}
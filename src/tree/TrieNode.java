@@ -4,6 +4,10 @@ package tree;
 public class TrieNode {
 	private TrieNode[] children;
     private boolean isWord;
+    // Vrai si le noeud est accessible depuis plusieurs arbres et ne doit donc plus être modifié
+    private boolean shared;
+    // Position de la valeur associée au mot dans les tableaux d'une TrieMap, plus un (0 si aucune)
+    private int slot;
     
     public TrieNode() {
         isWord = false;
@@ -32,7 +36,7 @@ public class TrieNode {
      * @param child le noeud associé au caractère à placer dans le tableau représentant les enfants
      * du noeud courant
      */
-    public void setChild(char c, TrieNode child) {
+    void setChild(char c, TrieNode child) {
         int index = charToIndex(c);
         if (children == null) {
             children = new TrieNode[index + 1];
@@ -57,7 +61,7 @@ public class TrieNode {
      * représente la fin d'un mot
      * @param isWord true si le TrieNode courant (caractère) représente un mot, false sinon
      */
-    public void setIsWord(boolean isWord) {
+    void setIsWord(boolean isWord) {
         this.isWord = isWord;
     }
     
@@ -103,10 +107,17 @@ public class TrieNode {
      * @return null si le tableau d'enfants n'est pas encore intialisé.
      * Sinon, le tableau représentant les enfants du noeud courant
      */
-    public TrieNode[] getChildren() {
+    TrieNode[] getChildren() {
     	return this.children;
     }
     
+    /**
+     * @return true si le noeud a (ou a eu) des enfants, false si aucun mot ne prolonge celui du noeud
+     */
+    public boolean hasChildren() {
+    	return children != null;
+    }
+    
     /**
      * Cette méthode permet de récupérer sur base d'un index
      * le caractère correspondant dans le tableau
@@ -125,5 +136,62 @@ public class TrieNode {
     	return (char) ('a' + index);
  
     }
+    
+    /**
+     * Cette méthode permet de remplacer directement le tableau des enfants, par exemple
+     * lorsqu'il a été construit à sa taille définitive.
+     * @param children le nouveau tableau des enfants
+     */
+    void setChildren(TrieNode[] children) {
+    	this.children = children;
+    }
+    
+    /**
+     * @return true si le noeud est partagé entre plusieurs arbres et doit être copié avant toute modification
+     */
+    boolean isShared() {
+    	return shared;
+    }
+    
+    /**
+     * Cette méthode permet de marquer le noeud comme partagé entre plusieurs arbres.
+     */
+    void markShared() {
+    	shared = true;
+    }
+    
+    /**
+     * Cette méthode permet de créer une copie modifiable d'un noeud partagé. Les enfants ne sont pas
+     * copiés mais deviennent à leur tour partagés, afin d'être copiés uniquement s'ils sont modifiés.
+     * @return une copie du noeud, non partagée
+     */
+    TrieNode copy() {
+    	TrieNode copy = new TrieNode();
+    	copy.isWord = isWord;
+    	copy.slot = slot;
+    	if (children != null) {
+    		copy.children = children.clone();
+    		for (TrieNode child : children) {
+    			if (child != null) {
+    				child.shared = true;
+    			}
+    		}
+    	}
+    	return copy;
+    }
+    
+    /**
+     * @return la position de la valeur associée au noeud dans une {@link TrieMap}, ou -1 s'il n'en a pas
+     */
+    int getSlot() {
+    	return slot - 1;
+    }
+    
+    /**
+     * Cette méthode permet d'associer au noeud la position de sa valeur dans une {@link TrieMap}.
+     * @param slot la position de la valeur
+     */
+    void setSlot(int slot) {
+    	this.slot = slot + 1;
+    }
 }
-
@@ -0,0 +1,248 @@
+package tree;
+
+import java.util.Arrays;
+
+/**
+ * Zone de construction utilisée lors du chargement d'un dictionnaire.
+ *
+ * <p>Pendant le chargement, les noeuds ne sont pas des objets {@link TrieNode} : chaque noeud est un
+ * simple numéro, et ses liens (premier enfant, frère suivant, caractère et marque de fin de mot) sont
+ * stockés dans de grands tableaux d'entiers alloués par blocs. L'insertion d'un caractère ne crée donc
+ * aucun objet et ne recopie aucun tableau d'enfants. Une fois le chargement terminé, {@link #compact()}
+ * construit en une passe les {@link TrieNode} définitifs, avec des tableaux d'enfants déjà à la bonne taille.</p>
+ *
+ * <p>Le ramasse-miettes ne voit ainsi, pendant le chargement, que quelques tableaux d'entiers (sans
+ * références à parcourir) au lieu de centaines de milliers de petits objets et de tableaux agrandis.</p>
+ */
+class TrieNodeArena {
+
+	// Nombre de noeuds par bloc (puissance de 2)
+	private static final int CHUNK_BITS = 16;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	// Nombre de noeuds créés par octet du fichier source (environ 0,17 pour le dictionnaire français)
+	private static final double NODES_PER_BYTE = 0.18;
+	// Nombre maximal de blocs réservés à la création (16 Mo) : au-delà, les blocs sont ajoutés au fil des
+	// insertions, la taille d'un fichier (compressé, ou contenant autre chose que des mots) n'étant qu'une
+	// estimation
+	private static final int MAX_RESERVED_CHUNKS = 16;
+
+	private static final int NONE = -1;
+	private static final int WORD_FLAG = 0x100;
+	private static final int INDEX_MASK = 0xFF;
+
+	private int[][] firstChild = new int[0][];
+	// Dernier enfant de chaque noeud : les dictionnaires étant généralement triés, c'est presque toujours
+	// l'enfant recherché ou celui après lequel le nouvel enfant doit être ajouté
+	private int[][] lastChild = new int[0][];
+	private int[][] nextSibling = new int[0][];
+	// Indice du caractère menant au noeud, et marque de fin de mot
+	private int[][] labels = new int[0][];
+	private int chunkCount;
+	private int nodeCount;
+	private int size;
+
+	/**
+	 * Crée une zone de construction contenant uniquement la racine.
+	 * @param expectedNodes le nombre de noeuds attendus, utilisé pour réserver les blocs à l'avance (au plus
+	 * {@link #MAX_RESERVED_CHUNKS} blocs)
+	 */
+	TrieNodeArena(int expectedNodes) {
+		int chunks = (int) Math.min(MAX_RESERVED_CHUNKS, Math.max(1, ((long) expectedNodes + CHUNK_SIZE - 1) / CHUNK_SIZE));
+		for (int i = 0; i < chunks; i++) {
+			addChunk();
+		}
+		newNode(0);
+	}
+
+	/**
+	 * Crée une zone de construction dimensionnée d'après la taille du fichier à charger.
+	 * @param fileLength la taille du fichier en octets (0 si inconnue)
+	 * @return la zone de construction
+	 */
+	static TrieNodeArena forFileLength(long fileLength) {
+		return new TrieNodeArena((int) Math.min(MAX_RESERVED_CHUNKS * CHUNK_SIZE, fileLength * NODES_PER_BYTE));
+	}
+
+	/**
+	 * @return le nombre de mots distincts insérés
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Cette méthode permet d'insérer un mot. Comme pour {@link LexicographicTree#insertWord(String)},
+	 * les caractères qui ne sont ni des lettres minuscules, ni le tiret, ni l'apostrophe sont ignorés.
+	 * @param word le mot à insérer
+	 * @param reversed true pour insérer le mot à l'envers (index des suffixes)
+	 */
+	void insert(CharSequence word, boolean reversed) {
+		int node = 0;
+		int length = word.length();
+		for (int i = 0; i < length; i++) {
+			int index = indexOf(word.charAt(reversed ? length - 1 - i : i));
+			if (index >= 0) {
+				node = child(node, index);
+			}
+		}
+		markWord(node);
+	}
+
+	/**
+	 * Cette méthode permet d'insérer le mot formé par une portion d'un tableau de caractères.
+	 * @param chars le tableau contenant le mot
+	 * @param offset la position du premier caractère
+	 * @param length la longueur du mot
+	 * @param reversed true pour insérer le mot à l'envers (index des suffixes)
+	 */
+	void insert(char[] chars, int offset, int length, boolean reversed) {
+		int node = 0;
+		for (int i = 0; i < length; i++) {
+			int index = indexOf(chars[reversed ? offset + length - 1 - i : offset + i]);
+			if (index >= 0) {
+				node = child(node, index);
+			}
+		}
+		markWord(node);
+	}
+
+	/**
+	 * Cette méthode permet de construire les {@link TrieNode} définitifs. Les blocs de la zone
+	 * de construction sont libérés ensuite : la zone ne doit plus être utilisée.
+	 * @return la racine de l'arbre, ou null si aucun mot n'a été inséré
+	 */
+	TrieNode compact() {
+		TrieNode root = size == 0 ? null : materialize(0);
+		firstChild = lastChild = nextSibling = labels = new int[0][];
+		chunkCount = 0;
+		return root;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static int indexOf(char c) {
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		} else if (c == '-') {
+			return 26;
+		} else if (c == '\'') {
+			return 27;
+		}
+		return -1;
+	}
+
+	private void markWord(int node) {
+		int[] chunk = labels[node >>> CHUNK_BITS];
+		if ((chunk[node & CHUNK_MASK] & WORD_FLAG) == 0) {
+			chunk[node & CHUNK_MASK] |= WORD_FLAG;
+			size++;
+		}
+	}
+
+	/**
+	 * Cette méthode retourne l'enfant du noeud pour le caractère donné, en le créant si nécessaire.
+	 * Les enfants d'un noeud forment une liste chaînée triée par indice de caractère.
+	 * @param node le noeud parent
+	 * @param index l'indice du caractère
+	 * @return le numéro du noeud enfant
+	 */
+	private int child(int node, int index) {
+		int last = get(lastChild, node);
+		if (last == NONE) {
+			int created = newNode(index);
+			set(firstChild, node, created);
+			set(lastChild, node, created);
+			return created;
+		}
+		int lastIndex = get(labels, last) & INDEX_MASK;
+		if (lastIndex == index) {
+			return last;
+		} else if (lastIndex < index) {
+			int created = newNode(index);
+			set(nextSibling, last, created);
+			set(lastChild, node, created);
+			return created;
+		}
+		// Insertion dans l'ordre au milieu de la liste (fichier non trié)
+		int previous = NONE;
+		int current = get(firstChild, node);
+		while ((get(labels, current) & INDEX_MASK) < index) {
+			previous = current;
+			current = get(nextSibling, current);
+		}
+		if ((get(labels, current) & INDEX_MASK) == index) {
+			return current;
+		}
+		int created = newNode(index);
+		set(nextSibling, created, current);
+		if (previous == NONE) {
+			set(firstChild, node, created);
+		} else {
+			set(nextSibling, previous, created);
+		}
+		return created;
+	}
+
+	private int newNode(int index) {
+		if (nodeCount == chunkCount * CHUNK_SIZE) {
+			addChunk();
+		}
+		int node = nodeCount++;
+		set(firstChild, node, NONE);
+		set(lastChild, node, NONE);
+		set(nextSibling, node, NONE);
+		set(labels, node, index);
+		return node;
+	}
+
+	private void addChunk() {
+		if (chunkCount == labels.length) {
+			int capacity = Math.max(4, chunkCount * 2);
+			firstChild = Arrays.copyOf(firstChild, capacity);
+			lastChild = Arrays.copyOf(lastChild, capacity);
+			nextSibling = Arrays.copyOf(nextSibling, capacity);
+			labels = Arrays.copyOf(labels, capacity);
+		}
+		firstChild[chunkCount] = new int[CHUNK_SIZE];
+		lastChild[chunkCount] = new int[CHUNK_SIZE];
+		nextSibling[chunkCount] = new int[CHUNK_SIZE];
+		labels[chunkCount] = new int[CHUNK_SIZE];
+		chunkCount++;
+	}
+
+	private static int get(int[][] chunks, int node) {
+		return chunks[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	private static void set(int[][] chunks, int node, int value) {
+		chunks[node >>> CHUNK_BITS][node & CHUNK_MASK] = value;
+	}
+
+	/**
+	 * Cette méthode permet de construire récursivement le {@link TrieNode} correspondant à un noeud
+	 * de la zone de construction. Le tableau des enfants est alloué une seule fois, à la taille
+	 * qu'il aurait eue s'il avait été agrandi au fil des insertions.
+	 * @param node le numéro du noeud
+	 * @return le noeud construit
+	 */
+	private TrieNode materialize(int node) {
+		TrieNode trieNode = new TrieNode();
+		int label = get(labels, node);
+		if ((label & WORD_FLAG) != 0) {
+			trieNode.setIsWord(true);
+		}
+		int child = get(firstChild, node);
+		if (child != NONE) {
+			int last = get(lastChild, node);
+			TrieNode[] children = new TrieNode[(get(labels, last) & INDEX_MASK) + 1];
+			for (; child != NONE; child = get(nextSibling, child)) {
+				children[get(labels, child) & INDEX_MASK] = materialize(child);
+			}
+			trieNode.setChildren(children);
+		}
+		return trieNode;
+	}
+}
@@ -0,0 +1,149 @@
+package tree;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Itérateur paresseux sur les mots d'un sous-arbre, dans l'ordre de l'arbre
+ * (de 'a' à 'z', puis le tiret et l'apostrophe).
+ *
+ * <p>Contrairement à la recherche récursive de {@link LexicographicTree#getWords(String)},
+ * les mots ne sont construits qu'au moment où ils sont demandés, ce qui permet
+ * de les exposer sous forme de flux sans construire la liste complète.</p>
+ */
+class WordIterator implements Iterator<String> {
+
+	private TrieNode[] nodes;
+	private int[] nextIndex;
+	private int depth;
+	private final int prefixLength;
+	private final StringBuilder currentWord;
+	private String next;
+
+	/**
+	 * @param start le noeud à partir duquel les mots sont construits (peut être null)
+	 * @param prefix le préfixe correspondant au chemin menant au noeud de départ
+	 */
+	WordIterator(TrieNode start, String prefix) {
+		this.nodes = new TrieNode[16];
+		this.nextIndex = new int[16];
+		this.prefixLength = prefix.length();
+		this.currentWord = new StringBuilder(prefix);
+		if (start == null) {
+			depth = -1;
+		} else {
+			depth = 0;
+			nodes[0] = start;
+			// -1 signifie que le noeud lui-même n'a pas encore été examiné
+			nextIndex[0] = -1;
+		}
+		advance();
+	}
+
+	/**
+	 * Cette méthode retourne un itérateur sur tous les mots de l'arbre, positionné sur le premier mot
+	 * supérieur ou égal à la borne donnée dans l'ordre de l'arbre.
+	 * @param root la racine de l'arbre (peut être null)
+	 * @param from la borne inférieure, composée uniquement de caractères connus de l'arbre
+	 * @return l'itérateur positionné
+	 */
+	static WordIterator startingAt(TrieNode root, CharSequence from) {
+		WordIterator iterator = new WordIterator(null, "");
+		iterator.seek(root, from);
+		return iterator;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return next != null;
+	}
+
+	@Override
+	public String next() {
+		if (next == null) {
+			throw new NoSuchElementException();
+		}
+		String word = next;
+		advance();
+		return word;
+	}
+
+	/**
+	 * Cette méthode permet de poursuivre le parcours en profondeur jusqu'au
+	 * prochain noeud marquant la fin d'un mot.
+	 */
+	private void advance() {
+		next = null;
+		while (depth >= 0) {
+			TrieNode node = nodes[depth];
+			int i = nextIndex[depth];
+			if (i == -1) {
+				nextIndex[depth] = 0;
+				if (node.isWord()) {
+					next = currentWord.toString();
+					return;
+				}
+				i = 0;
+			}
+			TrieNode[] children = node.getChildren();
+			int childCount = children != null ? children.length : 0;
+			while (i < childCount && children[i] == null) {
+				i++;
+			}
+			if (i < childCount) {
+				nextIndex[depth] = i + 1;
+				push(children[i]);
+				currentWord.append(node.indexToChar(i));
+			} else {
+				// Tous les enfants ont été explorés, on remonte d'un niveau
+				depth--;
+				if (depth >= 0) {
+					currentWord.setLength(prefixLength + depth);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cette méthode permet d'initialiser la pile le long du chemin de la borne : les noeuds de ce chemin
+	 * (préfixes de la borne, donc inférieurs à elle) et leurs enfants précédant la borne ne sont pas parcourus.
+	 * @param root la racine de l'arbre
+	 * @param from la borne inférieure
+	 */
+	private void seek(TrieNode root, CharSequence from) {
+		if (root == null) {
+			return;
+		}
+		depth = 0;
+		nodes[0] = root;
+		nextIndex[0] = -1;
+		for (int i = 0; i < from.length(); i++) {
+			TrieNode node = nodes[depth];
+			char c = from.charAt(i);
+			TrieNode child = node.getChild(c);
+			if (child == null) {
+				// La borne n'est pas dans l'arbre : le parcours reprend aux enfants suivant ce caractère
+				nextIndex[depth] = node.charToIndex(c);
+				break;
+			}
+			nextIndex[depth] = node.charToIndex(c) + 1;
+			push(child);
+			currentWord.append(c);
+		}
+		advance();
+	}
+
+	private void push(TrieNode child) {
+		depth++;
+		if (depth == nodes.length) {
+			TrieNode[] newNodes = new TrieNode[nodes.length * 2];
+			System.arraycopy(nodes, 0, newNodes, 0, nodes.length);
+			nodes = newNodes;
+			int[] newIndexes = new int[nextIndex.length * 2];
+			System.arraycopy(nextIndex, 0, newIndexes, 0, nextIndex.length);
+			nextIndex = newIndexes;
+		}
+		nodes[depth] = child;
+		nextIndex[depth] = -1;
+	}
+}
@@ -0,0 +1,200 @@
+package tree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Découpage en mots d'un texte écrit sans espaces (cryptogramme déchiffré, sortie d'OCR, ...).
+ *
+ * <p>Le meilleur découpage est obtenu par programmation dynamique : pour chaque position atteignable du
+ * texte, l'arbre est parcouru caractère par caractère à partir de cette position, et chaque mot rencontré
+ * permet d'atteindre la position qui suit ce mot pour un coût donné. Le parcours s'arrête dès que le préfixe
+ * lu n'est plus dans l'arbre : le travail est donc proportionnel à la longueur du texte multipliée par la
+ * longueur des mots, et non au carré de la longueur du texte.</p>
+ *
+ * <p>Les caractères qui ne peuvent appartenir à aucun mot forment des segments inconnus, pénalisés, de sorte
+ * qu'un texte est toujours découpé entièrement : la concaténation des segments redonne le texte d'origine.
+ * La casse et les accents sont ignorés lors de la recherche des mots.</p>
+ */
+public class WordSegmenter {
+
+	/**
+	 * Coût d'un mot dans le découpage. Le découpage retenu est celui dont la somme des coûts est minimale.
+	 */
+	@FunctionalInterface
+	public interface WordCost {
+		/**
+		 * @param text le texte découpé
+		 * @param start la position du premier caractère du mot
+		 * @param end la position suivant le dernier caractère du mot
+		 * @return le coût du mot (positif)
+		 */
+		double cost(CharSequence text, int start, int end);
+	}
+
+	/**
+	 * Coût par défaut : chaque mot coûte 1, le découpage retenu est donc celui qui utilise le moins de mots.
+	 */
+	public static final WordCost WORD_COUNT = (text, start, end) -> 1;
+
+	// Coût par défaut d'un caractère n'appartenant à aucun mot
+	private static final double DEFAULT_UNKNOWN_COST = 4;
+
+	private final LexicographicTree dictionary;
+	private final WordCost wordCost;
+	private final double unknownCost;
+
+	/**
+	 * Constructeur : découpage utilisant le moins de mots possible.
+	 * @param dictionary le dictionnaire des mots reconnus
+	 */
+	public WordSegmenter(LexicographicTree dictionary) {
+		this(dictionary, WORD_COUNT, DEFAULT_UNKNOWN_COST);
+	}
+
+	/**
+	 * Constructeur : découpage selon un coût des mots personnalisé (par exemple d'après leur fréquence).
+	 * @param dictionary le dictionnaire des mots reconnus
+	 * @param wordCost le coût de chaque mot
+	 * @param unknownCost le coût de chaque caractère n'appartenant à aucun mot, qui doit être supérieur
+	 * au coût des mots pour que ceux-ci soient préférés
+	 */
+	public WordSegmenter(LexicographicTree dictionary, WordCost wordCost, double unknownCost) {
+		this.dictionary = dictionary;
+		this.wordCost = wordCost;
+		this.unknownCost = unknownCost;
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Cette méthode permet de découper un texte en mots du dictionnaire. Les caractères consécutifs
+	 * n'appartenant à aucun mot sont regroupés dans un même segment.
+	 * @param text le texte à découper
+	 * @return les segments, dans l'ordre du texte, dont la concaténation redonne le texte
+	 */
+	public List<String> segment(CharSequence text) {
+		int length = text.length();
+		// best[i] : coût minimal du découpage des i premiers caractères ; start[i] : début du dernier segment
+		double[] best = new double[length + 1];
+		int[] start = new int[length + 1];
+		boolean[] known = new boolean[length + 1];
+		Arrays.fill(best, Double.POSITIVE_INFINITY);
+		best[0] = 0;
+		TrieNode root = dictionary.getRoot();
+		for (int i = 0; i < length; i++) {
+			if (best[i] == Double.POSITIVE_INFINITY) {
+				continue;
+			}
+			relax(best, start, known, i, i + 1, best[i] + unknownCost, false);
+			TrieNode node = root;
+			for (int j = i; j < length && node != null; j++) {
+				node = step(node, text.charAt(j));
+				if (node != null && node.isWord()) {
+					relax(best, start, known, i, j + 1, best[i] + wordCost.cost(text, i, j + 1), true);
+				}
+			}
+		}
+		return buildSegments(text, start, known);
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static void relax(double[] best, int[] start, boolean[] known, int from, int to, double cost,
+			boolean word) {
+		if (cost < best[to]) {
+			best[to] = cost;
+			start[to] = from;
+			known[to] = word;
+		}
+	}
+
+	/**
+	 * Cette méthode permet de descendre dans l'arbre en lisant un caractère du texte,
+	 * après conversion en minuscule et suppression de l'accent.
+	 * @param node le noeud courant
+	 * @param c le caractère lu
+	 * @return le noeud atteint, ou null si le préfixe n'est pas dans l'arbre
+	 */
+	private static TrieNode step(TrieNode node, char c) {
+		if (c >= 'A' && c <= 'Z') {
+			return node.getChild((char) (c + ('a' - 'A')));
+		} else if (c <= 0x7F) {
+			return node.getChild(c);
+		}
+		String folded = DictionaryLoader.foldAccent(c);
+		if (folded == null) {
+			return null;
+		}
+		for (int k = 0; k < folded.length() && node != null; k++) {
+			node = node.getChild(folded.charAt(k));
+		}
+		return node;
+	}
+
+	/**
+	 * Cette méthode permet de reconstruire les segments en remontant depuis la fin du texte.
+	 * @param text le texte découpé
+	 * @param start le début du dernier segment menant à chaque position
+	 * @param known true si ce segment est un mot du dictionnaire
+	 * @return les segments dans l'ordre du texte
+	 */
+	private static List<String> buildSegments(CharSequence text, int[] start, boolean[] known) {
+		List<String> segments = new ArrayList<>();
+		int end = text.length();
+		while (end > 0) {
+			int begin = start[end];
+			if (!known[end]) {
+				// Regroupement des caractères inconnus consécutifs
+				while (begin > 0 && !known[begin]) {
+					begin = start[begin];
+				}
+			}
+			segments.add(text.subSequence(begin, end).toString());
+			end = begin;
+		}
+		Collections.reverse(segments);
+		return segments;
+	}
+
+	/*
+	 * TEST FUNCTIONS
+	 */
+
+	/**
+	 * Découpe le texte de "Plus fort que Sherlock Holmes" après en avoir retiré les espaces
+	 * et la ponctuation.
+	 */
+	private static void testSegmentationPerformance(String dictionaryFile, String textFile) throws IOException {
+		LexicographicTree dictionary = new LexicographicTree(dictionaryFile);
+		String text = Files.readString(Paths.get(textFile), StandardCharsets.UTF_8).replaceAll("[^\\p{L}]", "");
+		WordSegmenter segmenter = new WordSegmenter(dictionary);
+		for (int i = 0; i < 5; i++) {
+			long startTime = System.currentTimeMillis();
+			List<String> segments = segmenter.segment(text);
+			System.out.println(text.length() + " caractères découpés en " + segments.size() + " segments en "
+					+ (System.currentTimeMillis() - startTime) / 1000.0 + " s");
+			if (i == 0) {
+				System.out.println(String.join(" ", segments.subList(0, 60)));
+			}
+		}
+	}
+
+	/*
+	 * MAIN PROGRAM
+	 */
+
+	public static void main(String[] args) throws IOException {
+		testSegmentationPerformance("mots/dictionnaire_FR_sans_accents.txt", "txt/Plus fort que Sherlock Holmes.txt");
+	}
+}
@@ -0,0 +1,90 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tree.LexicographicTree;
+
+public class BoggleBatchSolverTest {
+	private static LexicographicTree dictionary = null;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+	}
+
+	private static List<String> randomGrids(int size, int count) {
+		Random random = new Random(count);
+		List<String> grids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			StringBuilder grid = new StringBuilder();
+			for (int cell = 0; cell < size * size; cell++) {
+				grid.append((char) ('a' + random.nextInt(26)));
+			}
+			grids.add(grid.toString());
+		}
+		return grids;
+	}
+
+	@Test
+	void solve_sameAsBoggle() {
+		List<String> grids = randomGrids(4, 300);
+		List<Set<String>> results = new BoggleBatchSolver(4, dictionary).solve(grids.stream());
+		assertEquals(grids.size(), results.size());
+		for (int i = 0; i < grids.size(); i++) {
+			assertEquals(new Boggle(4, grids.get(i), dictionary).solve(), results.get(i), grids.get(i));
+		}
+	}
+
+	@Test
+	void countWords_sameAsBoggle() {
+		List<String> grids = randomGrids(5, 300);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			int[] counts = new BoggleBatchSolver(5, dictionary, pool).countWords(grids.stream());
+			for (int i = 0; i < grids.size(); i++) {
+				assertEquals(new Boggle(5, grids.get(i), dictionary).solve().size(), counts[i], grids.get(i));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void scores_sameAsBoggle() {
+		List<String> grids = randomGrids(4, 200);
+		int[] scores = new BoggleBatchSolver(4, dictionary).scores(grids.stream());
+		for (int i = 0; i < grids.size(); i++) {
+			assertEquals(new Boggle(4, grids.get(i), dictionary).score(), scores[i], grids.get(i));
+		}
+	}
+
+	@Test
+	void solve_upperCaseAndLongerGrids() {
+		List<Set<String>> results = new BoggleBatchSolver(2, dictionary).solve(Stream.of("AIRE", "aireXYZ"));
+		assertEquals(new Boggle(2, "aire", dictionary).solve(), results.get(0));
+		assertEquals(results.get(0), results.get(1));
+	}
+
+	@Test
+	void solve_emptyStream() {
+		assertTrue(new BoggleBatchSolver(4, dictionary).solve(Stream.empty()).isEmpty());
+		assertEquals(0, new BoggleBatchSolver(4, dictionary).countWords(Stream.empty()).length);
+	}
+
+	@Test
+	void solve_invalidGrids() {
+		assertThrows(IllegalArgumentException.class, () -> new BoggleBatchSolver(0, dictionary));
+		BoggleBatchSolver batch = new BoggleBatchSolver(4, dictionary);
+		assertThrows(IllegalArgumentException.class, () -> batch.solve(Stream.of("abcdefghijklmnop", "abc")));
+	}
+}
@@ -0,0 +1,85 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tree.LexicographicTree;
+
+public class BoggleGeneratorTest {
+	private static LexicographicTree dictionary = null;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+	}
+
+	private static void assertValidGrid(int size, String grid) {
+		assertEquals(size * size, grid.length());
+		for (int i = 0; i < grid.length(); i++) {
+			assertTrue(grid.charAt(i) >= 'a' && grid.charAt(i) <= 'z', grid);
+		}
+	}
+
+	@Test
+	void generate_betterThanRandomGrids() {
+		Random random = new Random(47);
+		int randomScore = 0;
+		for (int i = 0; i < 20; i++) {
+			StringBuilder letters = new StringBuilder();
+			for (int cell = 0; cell < 16; cell++) {
+				letters.append((char) ('a' + random.nextInt(26)));
+			}
+			randomScore = Math.max(randomScore, new Boggle(4, letters.toString(), dictionary).score());
+		}
+		String grid = new BoggleGenerator(4, dictionary).generateIterations(1, 2000);
+		assertValidGrid(4, grid);
+		assertTrue(new Boggle(4, grid, dictionary).score() > randomScore, grid);
+	}
+
+	@Test
+	void generate_severalChains() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			List<String> grids = new BoggleGenerator(5, dictionary).generate(3, 7, 100, pool);
+			assertEquals(3, grids.size());
+			for (String grid : grids) {
+				assertValidGrid(5, grid);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void generateIterations_sameSeedSameGrids() {
+		BoggleGenerator generator = new BoggleGenerator(4, dictionary);
+		assertEquals(generator.generateIterations(3, 500), generator.generateIterations(3, 500));
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			List<String> grids = generator.generateIterations(3, 7, 200, pool);
+			assertEquals(grids, generator.generateIterations(3, 7, 200));
+			assertNotEquals(grids.get(0), grids.get(1));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void generate_zeroBudgetReturnsStartingGrid() {
+		BoggleGenerator generator = new BoggleGenerator(3, dictionary);
+		assertEquals(generator.generate(5, 0), generator.generate(5, 0));
+		assertValidGrid(1, new BoggleGenerator(1, dictionary).generate(5, 20));
+	}
+
+	@Test
+	void generate_invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new BoggleGenerator(0, dictionary));
+		assertThrows(IllegalArgumentException.class, () -> new BoggleGenerator(4, dictionary).generate(0, 1, 10));
+	}
+}
@@ -0,0 +1,94 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tree.LexicographicTree;
+
+public class BoggleSolverTest {
+	private static final String GRID_10_X_10 = "eymmccsrltjttsdiraoarliuniepeousrcgoiseerreeistiedtomcteevcmkaualilaretneerectresieenspgizeoeceecuds";
+	private static LexicographicTree dictionary = null;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+	}
+
+	private static BoggleSolver solverOf(int size, String letters, LexicographicTree dict) {
+		Boggle boggle = new Boggle(size, letters, dict);
+		int[] start = new int[size * size + 1];
+		int[] neighbors = new int[8 * size * size];
+		int count = 0;
+		for (int cell = 0; cell < size * size; cell++) {
+			start[cell] = count;
+			for (int other = 0; other < size * size; other++) {
+				if (other != cell && Math.abs(other / size - cell / size) <= 1 && Math.abs(other % size - cell % size) <= 1) {
+					neighbors[count++] = other;
+				}
+			}
+		}
+		start[size * size] = count;
+		return new BoggleSolver(boggle.letters().toCharArray(), start, neighbors, dict);
+	}
+
+	@Test
+	void solve_smallDictionary() {
+		LexicographicTree dict = new LexicographicTree();
+		for (String word : new String[] { "ab", "abc", "abcd", "bad", "dab", "aba", "cab" }) {
+			dict.insertWord(word);
+		}
+		// a b
+		// c d
+		BoggleSolver solver = solverOf(2, "abcd", dict);
+		// "ab" est trop court, "aba" réutiliserait une case
+		assertEquals(new HashSet<>(Arrays.asList("abc", "abcd", "bad", "dab", "cab")), solver.solve());
+	}
+
+	@Test
+	void solve_emptyDictionary() {
+		assertEquals(0, solverOf(3, "abcdefghi", new LexicographicTree()).solve().size());
+	}
+
+	@Test
+	void solveFrom_unionIsSolve() {
+		BoggleSolver solver = solverOf(10, GRID_10_X_10, dictionary);
+		Set<String> expected = solver.solve();
+		solver.clear();
+		assertEquals(0, solver.getFoundWords().size());
+		for (int cell = 99; cell >= 0; cell--) {
+			solver.solveFrom(cell);
+		}
+		assertEquals(expected, solver.getFoundWords());
+		assertEquals(expected, solver.solve());
+	}
+
+	@Test
+	void solve_matchesContains() {
+		// Grille de plus de 64 cases : le marquage des cases visitées occupe plusieurs mots
+		BoggleSolver solver = solverOf(10, GRID_10_X_10, dictionary);
+		Set<String> found = solver.solve();
+		for (String word : found) {
+			assertTrue(solver.contains(word), word);
+		}
+		for (int length = BoggleSolver.MIN_WORD_LENGTH; length <= 8; length++) {
+			for (String word : dictionary.getWordsOfLength(length)) {
+				assertEquals(solver.contains(word), found.contains(word), word);
+			}
+		}
+	}
+
+	@Test
+	void contains_General() {
+		BoggleSolver solver = solverOf(2, "abab", dictionary);
+		assertTrue(solver.contains("abab"));
+		assertTrue(solver.contains("a"));
+		assertFalse(solver.contains("ababa"));
+		assertFalse(solver.contains("c"));
+	}
+}
@@ -7,9 +7,13 @@ import tree.LexicographicTree;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 public class BoggleTest {
 	private static final Set<String> EXPECTED_WORDS = new TreeSet<>(Arrays.asList(new String[] {"ces", "cesse", "cessent", "cresson", "ego", "encre",
@@ -355,6 +359,264 @@ public class BoggleTest {
 			// Then
 			assertEquals(100, counter);
 		}
+		
+		@Test
+		void solveParallel_sameAsSolve() {
+			Boggle wikipedia = new Boggle(4, GRID_LETTERS, dictionary);
+			assertEquals(EXPECTED_WORDS, wikipedia.solveParallel());
+			ForkJoinPool pool = new ForkJoinPool(4);
+			try {
+				for (int size : new int[] { 1, 10, 50 }) {
+					Boggle grid = new Boggle(size, GRID_50_X_50, dictionary);
+					assertEquals(grid.solve(), grid.solveParallel(pool));
+				}
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		@Test
+		void setLetter_sameAsNewGrid() {
+			Random random = new Random(48);
+			for (int size : new int[] { 2, 4, 10, 30 }) {
+				Boggle grid = new Boggle(size, GRID_50_X_50, dictionary);
+				for (int edit = 0; edit < 40; edit++) {
+					int cell = random.nextInt(size * size);
+					grid.setLetter(cell, GRID_50_X_50.charAt(random.nextInt(GRID_50_X_50.length())));
+					Boggle expected = new Boggle(size, grid.letters(), dictionary);
+					assertEquals(expected.solve(), grid.solve(), grid.letters());
+					assertEquals(expected.score(), grid.score(), grid.letters());
+					for (String word : expected.solve()) {
+						assertEquals(expected.getPathCount(word), grid.getPathCount(word), word);
+					}
+				}
+			}
+		}
+		
+		@Test
+		void setLetter_updatesLetters() {
+			Boggle grid = new Boggle(4, GRID_LETTERS, dictionary);
+			grid.setLetter(0, 'S');
+			assertEquals("shreypcswnsntego", grid.letters());
+			assertEquals("s h r e\ny p c s\nw n s n\nt e g o", grid.toString());
+			assertEquals(new Boggle(4, "shreypcswnsntego", dictionary).solve(), grid.solve());
+			assertThrows(IllegalArgumentException.class, () -> grid.setLetter(16, 'a'));
+			assertThrows(IllegalArgumentException.class, () -> grid.setLetter(-1, 'a'));
+		}
+		
+		@Test
+		void getPathCount_countsEveryPath() {
+			// Trois "s" voisins du "e" et voisins entre eux : 3 x 2 chemins pour "ses"
+			Boggle grid = new Boggle(2, "sess", dictionary);
+			assertEquals(6, grid.getPathCount("ses"));
+			assertEquals(0, grid.getPathCount("sono"));
+			grid.setLetter(3, 'x');
+			assertEquals(2, grid.getPathCount("ses"));
+			grid.setLetter(2, 'x');
+			assertEquals(0, grid.getPathCount("ses"));
+			assertFalse(grid.solve().contains("ses"));
+		}
+		
+		@Test
+		void setLetter_followsDictionaryInsertions() {
+			LexicographicTree words = new LexicographicTree();
+			words.insertWord("ses");
+			Boggle grid = new Boggle(2, "sesa", words);
+			assertEquals(2, grid.getPathCount("ses"));
+			// getPathCount ne fige pas la solution : une insertion est visible dans solve
+			words.insertWord("sea");
+			assertEquals(Set.of("ses", "sea"), grid.solve());
+			grid.setLetter(3, 's');
+			assertEquals(6, grid.getPathCount("ses"));
+			words.insertWord("ess");
+			assertEquals(Set.of("ses", "ess"), grid.solve());
+			assertEquals(2, grid.score());
+			assertEquals(6, grid.getPathCount("ess"));
+			grid.setLetter(1, 'a');
+			words.insertWord("sas");
+			grid.setLetter(0, 'e');
+			Boggle expected = new Boggle(2, grid.letters(), words);
+			assertEquals(expected.solve(), grid.solve());
+			assertEquals(expected.score(), grid.score());
+			assertEquals(expected.getPathCount("sas"), grid.getPathCount("sas"));
+		}
+		
+		private static void allTilePaths(String[] tiles, int size, int cell, boolean[] used, String word, Set<String> words) {
+			used[cell] = true;
+			word += tiles[cell];
+			if (word.length() >= 3 && dictionary.containsWord(word)) {
+				words.add(word);
+			}
+			for (int other = 0; other < tiles.length; other++) {
+				if (!used[other] && Math.abs(other / size - cell / size) <= 1 && Math.abs(other % size - cell % size) <= 1) {
+					allTilePaths(tiles, size, other, used, word, words);
+				}
+			}
+			used[cell] = false;
+		}
+		
+		@Test
+		void withTiles_sameAsBruteForce() {
+			String[] faces = { "qu", "ch", "ou", "e", "a", "s", "t", "r", "i", "n", "e", "s" };
+			Random random = new Random(49);
+			for (int grid = 0; grid < 30; grid++) {
+				String[] tiles = new String[9];
+				for (int cell = 0; cell < tiles.length; cell++) {
+					tiles[cell] = faces[random.nextInt(faces.length)];
+				}
+				Set<String> expected = new TreeSet<>();
+				for (int cell = 0; cell < tiles.length; cell++) {
+					allTilePaths(tiles, 3, cell, new boolean[tiles.length], "", expected);
+				}
+				Boggle boggle = Boggle.withTiles(3, tiles, dictionary);
+				assertEquals(expected, new TreeSet<>(boggle.solve()), Arrays.toString(tiles));
+				assertEquals(boggle.solve(), boggle.solveParallel());
+				assertEquals(boggle.solve(), boggle.solveWithPaths().getWords());
+				for (String word : expected) {
+					assertTrue(boggle.contains(word), word);
+				}
+			}
+		}
+		
+		@Test
+		void withTiles_tileIsNotSplit() {
+			Boggle boggle = Boggle.withTiles(2, new String[] { "QU", "e", "t", "a" }, dictionary);
+			assertArrayEquals(new String[] { "qu", "e", "t", "a" }, boggle.tiles());
+			assertEquals("queta", boggle.letters());
+			assertEquals("qu e\nt a", boggle.toString());
+			assertTrue(boggle.contains("que"));
+			assertTrue(boggle.contains("queta"));
+			assertFalse(boggle.contains("quete"));
+			assertFalse(boggle.contains("q"));
+			assertFalse(boggle.contains("qe"));
+			assertFalse(boggle.contains("u"));
+			assertTrue(boggle.solve().contains("que"));
+			assertArrayEquals(new int[] { 0, 1 }, boggle.solveWithPaths().getPath("que"));
+		}
+		
+		@Test
+		void withTiles_singleLettersSameAsLetters() {
+			String[] tiles = new String[GRID_LETTERS.length()];
+			for (int i = 0; i < tiles.length; i++) {
+				tiles[i] = GRID_LETTERS.substring(i, i + 1);
+			}
+			Boggle boggle = Boggle.withTiles(4, tiles, dictionary);
+			assertEquals(GRID_LETTERS, boggle.letters());
+			assertEquals(EXPECTED_WORDS, boggle.solve());
+		}
+		
+		@Test
+		void setTile_sameAsNewGrid() {
+			String[] faces = { "qu", "ch", "ou", "e", "a", "s", "t", "r", "i", "n" };
+			Random random = new Random(490);
+			String[] tiles = new String[25];
+			Arrays.fill(tiles, "e");
+			Boggle boggle = new Boggle(5, "eeeeeeeeeeeeeeeeeeeeeeeee", dictionary);
+			for (int edit = 0; edit < 60; edit++) {
+				int cell = random.nextInt(tiles.length);
+				tiles[cell] = faces[random.nextInt(faces.length)];
+				boggle.setTile(cell, tiles[cell]);
+				Boggle expected = Boggle.withTiles(5, tiles, dictionary);
+				assertEquals(expected.solve(), boggle.solve(), Arrays.toString(tiles));
+				assertEquals(expected.score(), boggle.score(), Arrays.toString(tiles));
+			}
+		}
+		
+		@Test
+		void withTiles_invalidTiles() {
+			assertThrows(IllegalArgumentException.class, () -> Boggle.withTiles(2, new String[] { "a", "b", "c" }, dictionary));
+			assertThrows(IllegalArgumentException.class, () -> Boggle.withTiles(2, new String[] { "a", "", "c", "d" }, dictionary));
+			assertThrows(IllegalArgumentException.class, () -> Boggle.withTiles(0, new String[0], dictionary));
+			Boggle boggle = new Boggle(2, "abcd", dictionary);
+			assertThrows(IllegalArgumentException.class, () -> boggle.setTile(0, ""));
+		}
+		
+		@Test
+		void findAll_sameAsContains() {
+			Boggle boggle = new Boggle(10, GRID_50_X_50, dictionary);
+			List<String> words = new ArrayList<>(dictionary.getWords("es"));
+			words.addAll(Arrays.asList("e", "ey", "eym", "mme", "ESSE", "e1", "", null, "tetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetetet"));
+			Set<String> expected = new TreeSet<>();
+			for (String word : words) {
+				if (boggle.contains(word)) {
+					expected.add(word);
+				}
+			}
+			assertTrue(expected.contains("eym"));
+			assertTrue(expected.size() > 10);
+			assertEquals(expected, new TreeSet<>(boggle.findAll(words)));
+			assertTrue(boggle.containsAll(expected));
+			assertFalse(boggle.containsAll(words));
+			assertTrue(boggle.containsAll(new ArrayList<>()));
+			assertTrue(boggle.findAll(Arrays.asList("", null)).isEmpty());
+		}
+		
+		@Test
+		void findAll_withTiles() {
+			Boggle boggle = Boggle.withTiles(2, new String[] { "qu", "e", "t", "a" }, dictionary);
+			assertEquals(new TreeSet<>(Arrays.asList("que", "queta", "e", "ta")),
+					new TreeSet<>(boggle.findAll(Arrays.asList("que", "queta", "qe", "q", "e", "ta", "quete"))));
+		}
+		
+		@Test
+		void contains_afterSetLetter() {
+			Boggle boggle = new Boggle(4, GRID_LETTERS, dictionary);
+			assertTrue(boggle.contains("songent"));
+			assertFalse(boggle.contains("xo"));
+			boggle.setLetter(15, 'x');
+			assertFalse(boggle.contains("songent"));
+			assertTrue(boggle.contains("xg"));
+			assertEquals(new TreeSet<>(Arrays.asList("xg")), new TreeSet<>(boggle.findAll(Arrays.asList("xg", "songent"))));
+		}
+		
+		@Test
+		void score_officialRules() {
+			assertEquals(0, Boggle.score("ne"));
+			assertEquals(1, Boggle.score("ces"));
+			assertEquals(1, Boggle.score("gens"));
+			assertEquals(2, Boggle.score("encre"));
+			assertEquals(3, Boggle.score("encres"));
+			assertEquals(5, Boggle.score("songent"));
+			assertEquals(11, Boggle.score("engoncer"));
+			assertEquals(11, Boggle.score("engonces"));
+		}
+		
+		@Test
+		void solveWithPaths_wikipediaExample() {
+			BoggleSolution solution = new Boggle(4, GRID_LETTERS, dictionary).solveWithPaths();
+			assertEquals(EXPECTED_WORDS, solution.getWords());
+			int expectedScore = 0;
+			for (String word : EXPECTED_WORDS) {
+				expectedScore += Boggle.score(word);
+			}
+			assertEquals(expectedScore, solution.getScore());
+			assertEquals(EXPECTED_WORDS.size(), solution.size());
+			assertNull(solution.getPath("sono"));
+		}
+		
+		@Test
+		void solveWithPaths_validPaths() {
+			for (int size : new int[] { 4, 10, 50 }) {
+				Boggle grid = new Boggle(size, GRID_50_X_50, dictionary);
+				BoggleSolution solution = grid.solveWithPaths();
+				assertEquals(grid.solve(), solution.getWords());
+				assertEquals(grid.score(), solution.getScore());
+				for (String word : solution.getWords()) {
+					int[] path = solution.getPath(word);
+					assertEquals(word.length(), path.length, word);
+					Set<Integer> used = new TreeSet<>();
+					for (int i = 0; i < path.length; i++) {
+						assertEquals(word.charAt(i), grid.letters().charAt(path[i]), word);
+						assertTrue(used.add(path[i]), word);
+						if (i > 0) {
+							int rowGap = Math.abs(path[i] / size - path[i - 1] / size);
+							int colGap = Math.abs(path[i] % size - path[i - 1] % size);
+							assertTrue(rowGap <= 1 && colGap <= 1, word);
+						}
+					}
+				}
+			}
+		}
 	
 	
 
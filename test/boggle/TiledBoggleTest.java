@@ -0,0 +1,84 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tree.LexicographicTree;
+
+public class TiledBoggleTest {
+	private static final String GRID_10_X_10 = "eymmccsrltjttsdiraoarliuniepeousrcgoiseerreeistiedtomcteevcmkaualilaretneerectresieenspgizeoeceecuds";
+	private static LexicographicTree dictionary = null;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+	}
+
+	private static String letters(int count) {
+		StringBuilder letters = new StringBuilder();
+		while (letters.length() < count) {
+			letters.append(GRID_10_X_10);
+		}
+		return letters.substring(0, count);
+	}
+
+	@Test
+	void solve_sameAsBoggle() {
+		String letters = letters(40 * 40);
+		Set<String> expected = new Boggle(40, letters, dictionary).solve();
+		for (int tileSize : new int[] { 1, 7, 16, 64 }) {
+			TiledBoggle tiled = new TiledBoggle(40, 40, (row, col) -> letters.charAt(row * 40 + col), dictionary, tileSize);
+			assertEquals(expected, tiled.solve(), "tuiles de " + tileSize);
+		}
+	}
+
+	@Test
+	void solve_rectangularGrid() {
+		String letters = letters(13 * 70);
+		TiledBoggle.LetterSource source = (row, col) -> letters.charAt(row * 70 + col);
+		// Une seule tuile couvrant toute la grille sert de référence
+		Set<String> expected = new TiledBoggle(13, 70, source, dictionary, 100).solve();
+		assertEquals(expected, new TiledBoggle(13, 70, source, dictionary, 5).solve());
+	}
+
+	@Test
+	void solve_streamsEachWordOnce() {
+		String letters = letters(30 * 30);
+		TiledBoggle tiled = new TiledBoggle(30, 30, (row, col) -> letters.charAt(row * 30 + col), dictionary, 4);
+		List<String> streamed = new ArrayList<>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			tiled.solve(streamed::add, pool);
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(new HashSet<>(streamed).size(), streamed.size());
+		assertEquals(tiled.solve(), new HashSet<>(streamed));
+	}
+
+	@Test
+	void haloWidth_maxWordLength() {
+		LexicographicTree dict = new LexicographicTree();
+		dict.insertWord("chat");
+		dict.insertWord("chaton");
+		TiledBoggle tiled = new TiledBoggle(6, 6, (row, col) -> "chaton".charAt(col), dict, 2);
+		assertEquals(5, tiled.getHaloWidth());
+		assertEquals(new HashSet<>(Arrays.asList("chat", "chaton")), tiled.solve());
+		assertEquals(0, new TiledBoggle(3, 3, (row, col) -> 'a', new LexicographicTree()).solve().size());
+	}
+
+	@Test
+	void constructor_invalidSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new TiledBoggle(0, 5, (row, col) -> 'a', dictionary));
+		assertThrows(IllegalArgumentException.class, () -> new TiledBoggle(5, 5, (row, col) -> 'a', dictionary, 0));
+	}
+}
@@ -0,0 +1,108 @@
+package service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tree.LexicographicTree;
+
+public class DictionaryShardRouterTest {
+	private static final String[] WORDS = new String[] { "a", "abc", "abd", "b", "ba", "bas", "c", "ca", "cb", "cz", "d-a", "d'a", "zz" };
+	private static final List<String> LOWER_BOUNDS = Arrays.asList("", "b", "cb", "d");
+	private static final LexicographicTree DICT = new LexicographicTree();
+	private static final List<DictionaryShardServer> SERVERS = new ArrayList<>();
+	private static DictionaryShardRouter router;
+
+	@BeforeAll
+	private static void startServers() throws IOException {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+		List<InetSocketAddress> addresses = new ArrayList<>();
+		for (int i = 0; i < LOWER_BOUNDS.size(); i++) {
+			String to = i + 1 < LOWER_BOUNDS.size() ? LOWER_BOUNDS.get(i + 1) : null;
+			DictionaryShardServer server = new DictionaryShardServer(DictionaryShardServer.shardOf(DICT, LOWER_BOUNDS.get(i), to), 0);
+			SERVERS.add(server);
+			addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+		}
+		router = new DictionaryShardRouter(LOWER_BOUNDS, addresses);
+	}
+
+	@AfterAll
+	private static void stopServers() throws IOException {
+		router.close();
+		for (DictionaryShardServer server : SERVERS) {
+			server.close();
+		}
+	}
+
+	@Test
+	void shardOf_General() {
+		assertEquals(Arrays.asList("a", "abc", "abd"), DictionaryShardServer.shardOf(DICT, "", "b").getWords(""));
+		assertEquals(Arrays.asList("b", "ba", "bas", "c", "ca"), DictionaryShardServer.shardOf(DICT, "b", "cb").getWords(""));
+		assertEquals(Arrays.asList("d-a", "d'a", "zz"), DictionaryShardServer.shardOf(DICT, "d", null).getWords(""));
+		assertEquals(0, DictionaryShardServer.shardOf(DICT, "d", "b").size());
+	}
+
+	@Test
+	void containsWord_General() {
+		for (String word : WORDS) {
+			assertTrue(router.containsWord(word), word);
+		}
+		assertFalse(router.containsWord(""));
+		assertFalse(router.containsWord("ab"));
+		assertFalse(router.containsWord("zzz"));
+	}
+
+	@Test
+	void containsWords_batch() {
+		List<String> words = Arrays.asList("zz", "ab", "a", "cb", "d'a", "bac", "ca");
+		assertArrayEquals(new boolean[] { true, false, true, true, true, false, true }, router.containsWords(words));
+		assertEquals(0, router.containsWords(new ArrayList<>()).length);
+	}
+
+	@Test
+	void getWords_General() {
+		for (String prefix : new String[] { "", "a", "ab", "b", "c", "cb", "cc", "d", "d-", "z", "zzz", "e" }) {
+			assertEquals(DICT.getWords(prefix), router.getWords(prefix), prefix);
+		}
+	}
+
+	@Test
+	void getWordsOfLength_General() {
+		for (int length = 0; length <= 4; length++) {
+			assertEquals(DICT.getWordsOfLength(length), router.getWordsOfLength(length));
+		}
+	}
+
+	@Test
+	void containsWord_tooLongKeepsConnectionUsable() {
+		StringBuilder word = new StringBuilder("a");
+		while (word.length() < 70000) {
+			word.append('a');
+		}
+		assertThrows(IllegalArgumentException.class, () -> router.containsWords(Arrays.asList("a", word.toString())));
+		assertThrows(IllegalArgumentException.class, () -> router.getWords(word.toString()));
+		assertTrue(router.containsWord("zz"));
+		assertTrue(router.containsWord("zz"));
+		assertTrue(router.containsWord("a"));
+	}
+
+	@Test
+	void constructor_invalidBounds() {
+		List<InetSocketAddress> addresses = Arrays.asList(new InetSocketAddress(InetAddress.getLoopbackAddress(), SERVERS.get(0).getPort()),
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), SERVERS.get(1).getPort()));
+		assertThrows(IllegalArgumentException.class, () -> new DictionaryShardRouter(Arrays.asList("a", "b"), addresses));
+		assertThrows(IllegalArgumentException.class, () -> new DictionaryShardRouter(Arrays.asList("", ""), addresses));
+		assertThrows(IllegalArgumentException.class, () -> new DictionaryShardRouter(Arrays.asList(""), addresses));
+	}
+}
@@ -0,0 +1,103 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickAutomatonTest {
+	private static final String[] WORDS = new String[] { "he", "she", "his", "hers", "ete", "vingt-six", "oeuvre" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+	private static AhoCorasickAutomaton automaton;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+		automaton = new AhoCorasickAutomaton(DICT);
+	}
+
+	private static List<String> matches(String text) {
+		List<String> found = new ArrayList<>();
+		automaton.scan(text, (start, end) -> found.add(text.substring(start, end)));
+		return found;
+	}
+
+	@Test
+	void scan_overlappingMatches() {
+		assertEquals(Arrays.asList("she", "he", "hers"), matches("ushers"));
+		assertEquals(Arrays.asList("his", "she", "he"), matches("hishe"));
+	}
+
+	@Test
+	void scan_positions() {
+		List<int[]> positions = new ArrayList<>();
+		automaton.scan("a she", (start, end) -> positions.add(new int[] { start, end }));
+		assertEquals(2, positions.size());
+		assertArrayEquals(new int[] { 2, 5 }, positions.get(0));
+		assertArrayEquals(new int[] { 3, 5 }, positions.get(1));
+	}
+
+	@Test
+	void scan_caseAccentsAndSeparators() {
+		assertEquals(Arrays.asList("ÉTÉ"), matches("ÉTÉ"));
+		assertEquals(Arrays.asList("Vingt-Six"), matches("Vingt-Six"));
+		assertEquals(Arrays.asList("œuvre"), matches("œuvre"));
+		// Un séparateur interrompt les mots
+		assertEquals(0, automaton.countMatches("s h e"));
+		assertEquals(Arrays.asList("he"), matches("h'he"));
+	}
+
+	@Test
+	void countMatches_General() {
+		assertEquals(4, automaton.countMatches("ushers he"));
+		assertEquals(0, automaton.countMatches(""));
+		assertEquals(0, new AhoCorasickAutomaton(new LexicographicTree()).countMatches("ushers"));
+	}
+
+	@Test
+	void fitness_General() {
+		// Chiffrement par décalage d'une lettre : 'B' se déchiffre en 'A', 'C' en 'B', ...
+		String alphabet = "ZABCDEFGHIJKLMNOPQRSTUVWXY";
+		// "HERS THE" : seul "hers" compte, "he" est trop court
+		assertEquals(4, automaton.fitness("IFST UIF", alphabet));
+		assertEquals(0, automaton.fitness("IFST UIF", "ABCDEFGHIJKLMNOPQRSTUVWXYZ"));
+	}
+
+	@Test
+	void fitness_nestedAndOverlapping() {
+		String identity = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+		LexicographicTree dict = new LexicographicTree();
+		for (String word : new String[] { "fgh", "cdefghi", "ijkl", "klmn" }) {
+			dict.insertWord(word);
+		}
+		AhoCorasickAutomaton nested = new AhoCorasickAutomaton(dict);
+		// "fgh" est trouvé avant "cdefghi", qui le contient et commence avant lui
+		assertEquals(7, nested.fitness("CDEFGHI", identity));
+		// "cdefghi", "ijkl" et "klmn" se chevauchent : c à n
+		assertEquals(12, nested.fitness("CDEFGHIJKLMN", identity));
+		// Deux zones séparées
+		assertEquals(7, nested.fitness("FGH XX KLMN", identity));
+	}
+
+	@Test
+	void countMatches_dictionary() {
+		LexicographicTree dict = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		AhoCorasickAutomaton dictionaryAutomaton = new AhoCorasickAutomaton(dict);
+		String text = "la premiere scene se passe a la campagne";
+		int expected = 0;
+		for (int start = 0; start < text.length(); start++) {
+			for (int end = start + 1; end <= text.length(); end++) {
+				if (dict.containsWord(text.substring(start, end))) {
+					expected++;
+				}
+			}
+		}
+		assertEquals(expected, dictionaryAutomaton.countMatches(text));
+	}
+}
@@ -0,0 +1,108 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryHolderTest {
+
+	@TempDir
+	Path directory;
+
+	private static Path writeDictionary(Path file, String... words) throws IOException {
+		return Files.write(file, Arrays.asList(words));
+	}
+
+	@Test
+	void get_initialDictionary() throws IOException {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			assertEquals(3, holder.get().size());
+			assertTrue(holder.get().containsWord("aide"));
+		}
+	}
+
+	@Test
+	void reload_keepsOldSnapshot() throws Exception {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			LexicographicTree snapshot = holder.get();
+			writeDictionary(file, "aide", "as", "au", "bus", "but");
+			LexicographicTree reloaded = holder.reload().get(5, TimeUnit.SECONDS);
+
+			assertNotSame(snapshot, reloaded);
+			assertSame(reloaded, holder.get());
+			assertEquals(3, snapshot.size());
+			assertFalse(snapshot.containsWord("bus"));
+			assertTrue(reloaded.containsWord("bus"));
+			assertEquals(2, holder.getLastWordCountDelta());
+		}
+	}
+
+	@Test
+	void reload_onFileChange() throws Exception {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			CountDownLatch reloaded = new CountDownLatch(1);
+			int[] delta = new int[1];
+			holder.addReloadListener((dictionary, duration, wordCountDelta) -> {
+				delta[0] = wordCountDelta;
+				reloaded.countDown();
+			});
+			writeDictionary(file, "aide");
+
+			assertTrue(reloaded.await(10, TimeUnit.SECONDS), "Le dictionnaire n'a pas été rechargé");
+			assertEquals(-2, delta[0]);
+			assertEquals(1, holder.get().size());
+		}
+	}
+
+	@Test
+	void reload_missingFileKeepsDictionary() throws Exception {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			LexicographicTree snapshot = holder.get();
+			Files.delete(file);
+			assertSame(snapshot, holder.reload().get(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	void reload_sameSizeEdit() throws Exception {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			// Même taille, et souvent même date de modification à la résolution du système de fichiers
+			writeDictionary(file, "aide", "as", "av");
+			LexicographicTree reloaded = holder.reload().get(5, TimeUnit.SECONDS);
+
+			assertTrue(reloaded.containsWord("av"));
+			assertFalse(reloaded.containsWord("au"));
+		}
+	}
+
+	@Test
+	void reload_failingListener() throws Exception {
+		Path file = writeDictionary(directory.resolve("dico.txt"), "aide", "as", "au");
+		try (DictionaryHolder holder = new DictionaryHolder(file.toString())) {
+			int[] notified = new int[1];
+			holder.addReloadListener((dictionary, duration, wordCountDelta) -> {
+				throw new IllegalStateException("observateur défaillant");
+			});
+			holder.addReloadListener((dictionary, duration, wordCountDelta) -> notified[0]++);
+			writeDictionary(file, "aide", "as", "au", "bus");
+			LexicographicTree reloaded = holder.reload().get(5, TimeUnit.SECONDS);
+
+			assertTrue(reloaded.containsWord("bus"));
+			assertSame(reloaded, holder.get());
+			assertEquals(1, notified[0]);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryJournalTest {
+
+	@TempDir
+	Path directory;
+
+	private static Path baseOf(Path directory, String... words) throws IOException {
+		return Files.write(directory.resolve("base.txt"), Arrays.asList(words));
+	}
+
+	/**
+	 * @return un mot différent pour chaque entier (écriture en base 26 avec les lettres de 'a' à 'z')
+	 */
+	private static String wordOf(int i) {
+		StringBuilder word = new StringBuilder();
+		do {
+			word.append((char) ('a' + i % 26));
+			i /= 26;
+		} while (i > 0);
+		return word.toString();
+	}
+
+	@Test
+	void insertWord_replayedAfterRestart() throws Exception {
+		Path base = baseOf(directory, "aide", "as");
+		Path journal = directory.resolve("journal.log");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(2, dictionaryJournal.getDictionary().size());
+			dictionaryJournal.insertWord("bus");
+			dictionaryJournal.insertWord("but").get(5, TimeUnit.SECONDS);
+			assertTrue(dictionaryJournal.getDictionary().containsWord("bus"));
+		}
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("aide", "as", "bus", "but"), dictionaryJournal.getDictionary().getWords(""));
+		}
+	}
+
+	@Test
+	void replay_truncatesCorruptTail() throws Exception {
+		Path base = directory.resolve("absent.txt");
+		Path journal = directory.resolve("journal.log");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			dictionaryJournal.insertWord("ete");
+			dictionaryJournal.sync();
+		}
+		long validSize = Files.size(journal);
+		// Enregistrement incomplet, puis enregistrement dont la somme de contrôle est fausse
+		byte[] word = "zoo".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer corrupt = ByteBuffer.allocate(11).putInt(word.length).put(word).putInt(0);
+		Files.write(journal, corrupt.array(), StandardOpenOption.APPEND);
+		Files.write(journal, new byte[] { 0, 0, 0, 42, 'a' }, StandardOpenOption.APPEND);
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("ete"), dictionaryJournal.getDictionary().getWords(""));
+			assertEquals(validSize, Files.size(journal));
+			dictionaryJournal.insertWord("et");
+		}
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("et", "ete"), dictionaryJournal.getDictionary().getWords(""));
+		}
+	}
+
+	@Test
+	void compact_foldsJournalIntoBase() throws Exception {
+		Path base = baseOf(directory, "aide");
+		Path journal = directory.resolve("journal.log");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			dictionaryJournal.insertWord("au");
+			dictionaryJournal.insertWord("aux");
+			dictionaryJournal.compact().get(5, TimeUnit.SECONDS);
+			dictionaryJournal.insertWord("bu");
+			assertEquals(Arrays.asList("aide", "au", "aux"), Files.readAllLines(base));
+			assertFalse(Files.exists(directory.resolve("journal.log.old")));
+		}
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("aide", "au", "aux", "bu"), dictionaryJournal.getDictionary().getWords(""));
+		}
+	}
+
+	@Test
+	void compact_automaticUnderWriteLoad() throws Exception {
+		Path base = baseOf(directory);
+		Path journal = directory.resolve("journal.log");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString(), 256)) {
+			for (int i = 0; i < 2000; i++) {
+				dictionaryJournal.insertWord(wordOf(i));
+			}
+			assertEquals(2000, dictionaryJournal.getDictionary().size());
+		}
+		assertTrue(Files.size(journal) < 2000 * 8);
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(2000, dictionaryJournal.getDictionary().size());
+		}
+	}
+
+	@Test
+	void replay_interruptedCompaction() throws Exception {
+		Path base = baseOf(directory, "as");
+		Path journal = directory.resolve("journal.log");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			dictionaryJournal.insertWord("bus");
+		}
+		// Arrêt simulé après la mise de côté du journal, avant l'écriture de la nouvelle base
+		Files.move(journal, directory.resolve("journal.log.old"));
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("as", "bus"), dictionaryJournal.getDictionary().getWords(""));
+		}
+		assertEquals(Arrays.asList("as", "bus"), Files.readAllLines(base));
+		assertFalse(Files.exists(directory.resolve("journal.log.old")));
+	}
+
+	@Test
+	void compact_keepsUnmergedOldJournal() throws Exception {
+		Path base = baseOf(directory, "as");
+		Path journal = directory.resolve("journal.log");
+		Path oldJournal = directory.resolve("journal.log.old");
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			dictionaryJournal.insertWord("bus");
+		}
+		Files.move(journal, oldJournal);
+		// La nouvelle base ne peut pas être écrite : l'ancien journal reste à intégrer
+		Path temporary = Files.createDirectory(directory.resolve("base.txt.tmp"));
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			dictionaryJournal.insertWord("car").get(5, TimeUnit.SECONDS);
+			assertThrows(ExecutionException.class, () -> dictionaryJournal.compact().get(5, TimeUnit.SECONDS));
+		}
+		assertTrue(Files.exists(oldJournal));
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("as", "bus", "car"), dictionaryJournal.getDictionary().getWords(""));
+		}
+		Files.delete(temporary);
+		try (DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString())) {
+			assertEquals(Arrays.asList("as", "bus", "car"), dictionaryJournal.getDictionary().getWords(""));
+		}
+		assertEquals(Arrays.asList("as", "bus", "car"), Files.readAllLines(base));
+		assertFalse(Files.exists(oldJournal));
+	}
+
+	@Test
+	void close_twice() throws Exception {
+		Path base = baseOf(directory, "as");
+		Path journal = directory.resolve("journal.log");
+		DictionaryJournal dictionaryJournal = new DictionaryJournal(base.toString(), journal.toString(), 1);
+		dictionaryJournal.insertWord("bus");
+		dictionaryJournal.close();
+		dictionaryJournal.close();
+		assertThrows(IllegalStateException.class, () -> dictionaryJournal.insertWord("car"));
+	}
+}
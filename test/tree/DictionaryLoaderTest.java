@@ -0,0 +1,104 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryLoaderTest {
+
+	@TempDir
+	Path directory;
+
+	private Path writeDictionary(String content, Charset charset) throws IOException {
+		return Files.write(directory.resolve("dico.txt"), content.getBytes(charset));
+	}
+
+	@Test
+	void load_normalizesWords() throws IOException {
+		Path file = writeDictionary("\uFEFFÉté\r\n  Bus \n\nœuvre\naujourd’hui\ncafé\n", StandardCharsets.UTF_8);
+		LexicographicTree tree = new DictionaryLoader().load(file);
+		assertEquals(5, tree.size());
+		assertEquals(Arrays.asList("aujourd'hui", "bus", "cafe", "ete", "oeuvre"), tree.getWords(""));
+	}
+
+	@Test
+	void load_whitespaceEndsWord() throws IOException {
+		Path file = writeDictionary("pomme de terre\nchat\t12\n \t \n\tbus\n", StandardCharsets.UTF_8);
+		LexicographicTree tree = new DictionaryLoader().load(file);
+		assertEquals(Arrays.asList("bus", "chat", "pomme"), tree.getWords(""));
+		file = writeDictionary("pomme de terre\nchat\t12\n", StandardCharsets.UTF_16);
+		tree = new DictionaryLoader(StandardCharsets.UTF_16, false).load(file);
+		assertEquals(Arrays.asList("chat", "pomme"), tree.getWords(""));
+	}
+
+	@Test
+	void load_lastLineWithoutNewline() throws IOException {
+		LexicographicTree tree = new DictionaryLoader().load(writeDictionary("as\nau", StandardCharsets.UTF_8));
+		assertEquals(2, tree.size());
+		assertTrue(tree.containsWord("au"));
+	}
+
+	@Test
+	void load_latin1() throws IOException {
+		Path file = writeDictionary("élève\nnaïf\n", StandardCharsets.ISO_8859_1);
+		LexicographicTree tree = new DictionaryLoader(StandardCharsets.ISO_8859_1, false).load(file);
+		assertEquals(Arrays.asList("eleve", "naif"), tree.getWords(""));
+	}
+
+	@Test
+	void load_otherCharset() throws IOException {
+		Path file = writeDictionary("Noël\nbus\n", StandardCharsets.UTF_16);
+		LexicographicTree tree = new DictionaryLoader(StandardCharsets.UTF_16, false).load(file);
+		assertEquals(Arrays.asList("bus", "noel"), tree.getWords(""));
+	}
+
+	@Test
+	void load_gzip() throws IOException {
+		Path file = directory.resolve("dico.txt.gz");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+			out.write("aide\nas\nélan\n".getBytes(StandardCharsets.UTF_8));
+		}
+		LexicographicTree tree = new DictionaryLoader().load(file);
+		assertEquals(Arrays.asList("aide", "as", "elan"), tree.getWords(""));
+	}
+
+	@Test
+	void load_inputStream() throws IOException {
+		LexicographicTree tree = new DictionaryLoader()
+				.load(new ByteArrayInputStream("bu\nbus\nbut\n".getBytes(StandardCharsets.UTF_8)));
+		assertEquals(3, tree.size());
+	}
+
+	@Test
+	void load_withSuffixIndex() throws IOException {
+		Path file = writeDictionary("bus\nbut\nété\nas\n", StandardCharsets.UTF_8);
+		LexicographicTree tree = new DictionaryLoader(StandardCharsets.UTF_8, true).load(file);
+		assertTrue(tree.hasSuffixIndex());
+		assertEquals(Arrays.asList("as", "bus"), tree.getWordsEndingWith("s"));
+		assertEquals(Arrays.asList("ete"), tree.getWordsEndingWith("te"));
+	}
+
+	@Test
+	void load_missingFileThrows() {
+		assertThrows(NoSuchFileException.class, () -> new DictionaryLoader().load("fichier-absent.txt"));
+	}
+
+	@Test
+	void load_zstdWithoutLibraryThrows() throws IOException {
+		Path file = directory.resolve("dico.txt.zst");
+		Files.write(file, new byte[] { 0x28, (byte) 0xB5, 0x2F, (byte) 0xFD, 0, 0, 0, 0 });
+		assertThrows(IOException.class, () -> new DictionaryLoader().load(file));
+	}
+}
@@ -0,0 +1,120 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class FrozenLexicographicTreeTest {
+	private static final String[] WORDS = new String[] { "a-cote", "a", "as", "aspire", "aspirateur", "boulangerie", "boulanger", "roulette", "vingt", "vingt-et-un", "tarte", "l'", "l'animal", "les" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+	private static FrozenLexicographicTree frozen;
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+		frozen = DICT.freeze();
+	}
+
+	@Test
+	void containsWord_General() {
+		assertEquals(DICT.size(), frozen.size());
+		for (String word : WORDS) {
+			assertTrue(frozen.containsWord(word), word);
+		}
+		for (String word : new String[] { "", "asp", "vingt-", "l", "zoo", "A", "aspirateurs" }) {
+			assertFalse(frozen.containsWord(word), word);
+		}
+		assertTrue(frozen.containsWord(new StringBuilder("boulanger")));
+	}
+
+	@Test
+	void containsPrefix_General() {
+		// Comme LexicographicTree, le préfixe vide n'est pas considéré comme présent
+		assertFalse(frozen.containsPrefix(""));
+		assertEquals(DICT.containsPrefix(""), frozen.containsPrefix(""));
+		assertTrue(frozen.containsPrefix("asp"));
+		assertTrue(frozen.containsPrefix("vingt-"));
+		assertFalse(frozen.containsPrefix("aspx"));
+		assertFalse(frozen.containsPrefix("é"));
+	}
+
+	@Test
+	void getWords_General() {
+		for (String prefix : new String[] { "", "a", "as", "b", "l'", "vingt", "x", "aspirateur" }) {
+			assertEquals(DICT.getWords(prefix), frozen.getWords(prefix), prefix);
+		}
+	}
+
+	@Test
+	void getWordsOfLength_General() {
+		for (int length = -1; length <= 12; length++) {
+			assertEquals(DICT.getWordsOfLength(length), frozen.getWordsOfLength(length));
+		}
+	}
+
+	@Test
+	void freeze_unaffectedByInsertions() {
+		LexicographicTree tree = new LexicographicTree();
+		tree.insertWord("chat");
+		FrozenLexicographicTree copy = tree.freeze();
+		tree.insertWord("chien");
+		assertEquals(1, copy.size());
+		assertFalse(copy.containsWord("chien"));
+		assertEquals(Arrays.asList("chat"), copy.getWords(""));
+	}
+
+	@Test
+	void emptyTree_readsDoNotCreateRoot() {
+		LexicographicTree tree = new LexicographicTree();
+		assertFalse(tree.containsWord(""));
+		assertEquals(0, tree.getWords("").size());
+		assertEquals(0, tree.getWordsOfLength(3).size());
+		assertNull(tree.getRoot());
+
+		FrozenLexicographicTree copy = tree.freeze();
+		assertEquals(0, copy.size());
+		assertFalse(copy.containsWord(""));
+		assertFalse(copy.containsPrefix(""));
+		assertEquals(0, copy.getWords("").size());
+		assertEquals(0, copy.getWordsOfLength(1).size());
+	}
+
+	@Test
+	void concurrentReaders_dictionary() throws Exception {
+		LexicographicTree dict = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		FrozenLexicographicTree copy = dict.freeze();
+		List<String> words = dict.getWords("");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				results.add(executor.submit(() -> {
+					int found = 0;
+					for (String word : words) {
+						if (copy.containsWord(word)) {
+							found++;
+						}
+					}
+					return found;
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertEquals(words.size(), (long) result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(words, copy.getWords(""));
+		assertEquals(dict.getWordsOfLength(7), copy.getWordsOfLength(7));
+	}
+}
@@ -3,9 +3,12 @@ package tree;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
 
@@ -517,4 +520,298 @@ public class LexicographicTreeTest {
 	}
 	
 
+	// Index des suffixes
+	@Test
+	void getWordsEndingWith_General() {
+		LexicographicTree dict = new LexicographicTree(true);
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+		assertTrue(dict.hasSuffixIndex());
+		assertArrayEquals(new String[] { "et", "but" }, dict.streamWordsEndingWith("t").toArray());
+		assertArrayEquals(new String[] { "as", "bus" }, dict.getWordsEndingWith("s").toArray());
+		assertArrayEquals(new String[] { "but", "et" }, dict.getWordsEndingWith("t").toArray());
+		assertEquals(WORDS.length, dict.getWordsEndingWith("").size());
+		assertEquals(0, dict.getWordsEndingWith("z").size());
+	}
+	
+	@Test
+	void getWordsEndingWith_without_index() {
+		assertFalse(DICT.hasSuffixIndex());
+		assertThrows(IllegalStateException.class, () -> DICT.getWordsEndingWith("s"));
+	}
+	
+	@Test
+	void getWords_prefix_and_suffix() {
+		LexicographicTree dict = new LexicographicTree(true);
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+		assertArrayEquals(new String[] { "bus" }, dict.getWords("b", "us").toArray());
+		assertArrayEquals(new String[] { "aide", "ete" }, dict.getWords("", "e").toArray());
+		assertArrayEquals(new String[] { "ete" }, dict.getWords("e", "te").toArray());
+		assertArrayEquals(new String[] { "au", "aux" }, DICT.getWords("au", "").toArray());
+	}
+	
+	@Test
+	void getWordsEndingWith_with_hippen_order() {
+		LexicographicTree dict = new LexicographicTree(true);
+		dict.insertWord("porte-avions");
+		dict.insertWord("avions");
+		dict.insertWord("lions");
+		assertArrayEquals(new String[] { "avions", "porte-avions" }, dict.getWordsEndingWith("avions").toArray());
+		assertArrayEquals(new String[] { "avions", "lions", "porte-avions" }, dict.getWordsEndingWith("ions").toArray());
+	}
+	
+	@Test
+	void streamWords_matches_getWords() {
+		assertEquals(DICT.getWords(""), DICT.streamWords("").collect(Collectors.toList()));
+		assertEquals(DICT.getWords("a"), DICT.streamWords("a").collect(Collectors.toList()));
+		assertEquals(0, DICT.streamWords("x").count());
+	}
+	
+	@Test
+	void suffixIndex_from_file() {
+		LexicographicTree dict = new LexicographicTree(FILE_PATH, true);
+		assertEquals(327956, dict.size());
+		List<String> words = dict.getWordsEndingWith("ssions");
+		assertTrue(words.contains("passions"));
+		for (String word : words) {
+			assertTrue(word.endsWith("ssions"), word);
+		}
+		assertEquals(dict.getWords("").stream().filter(word -> word.endsWith("ssions")).count(), words.size());
+	}
+
+	// Opérations ensemblistes
+	private static LexicographicTree treeOf(String... words) {
+		LexicographicTree tree = new LexicographicTree();
+		for (String word : words) {
+			tree.insertWord(word);
+		}
+		return tree;
+	}
+	
+	@Test
+	void union_General() {
+		LexicographicTree other = treeOf("bus", "car", "et", "zoo");
+		LexicographicTree union = DICT.union(other);
+		assertEquals(11, union.size());
+		assertArrayEquals(new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "car", "et", "ete", "zoo" }, union.getWords("").toArray());
+	}
+	
+	@Test
+	void intersection_General() {
+		LexicographicTree intersection = DICT.intersection(treeOf("bus", "car", "et", "ai", "zoo"));
+		assertEquals(2, intersection.size());
+		assertArrayEquals(new String[] { "bus", "et" }, intersection.getWords("").toArray());
+		assertFalse(intersection.containsPrefix("ai"));
+	}
+	
+	@Test
+	void difference_General() {
+		LexicographicTree difference = DICT.difference(treeOf("bus", "but", "bu", "et", "zoo"));
+		assertEquals(5, difference.size());
+		assertArrayEquals(new String[] { "aide", "as", "au", "aux", "ete" }, difference.getWords("").toArray());
+		assertFalse(difference.containsPrefix("b"));
+	}
+	
+	@Test
+	void setOperations_with_empty_tree() {
+		LexicographicTree empty = new LexicographicTree();
+		assertEquals(DICT.getWords(""), DICT.union(empty).getWords(""));
+		assertEquals(DICT.getWords(""), empty.union(DICT).getWords(""));
+		assertEquals(0, DICT.intersection(empty).size());
+		assertEquals(DICT.getWords(""), DICT.difference(empty).getWords(""));
+		assertEquals(0, DICT.difference(DICT).size());
+		assertEquals(DICT.size(), DICT.intersection(DICT).size());
+	}
+	
+	@Test
+	void setOperations_shared_subtrees_are_not_modified() {
+		LexicographicTree first = treeOf("aide", "as");
+		LexicographicTree second = treeOf("bus");
+		LexicographicTree union = first.union(second);
+		
+		union.insertWord("aides");
+		union.insertWord("bu");
+		first.insertWord("ai");
+		second.insertWord("busse");
+		
+		assertArrayEquals(new String[] { "ai", "aide", "as" }, first.getWords("").toArray());
+		assertArrayEquals(new String[] { "bus", "busse" }, second.getWords("").toArray());
+		assertArrayEquals(new String[] { "aide", "aides", "as", "bu", "bus" }, union.getWords("").toArray());
+		assertEquals(5, union.size());
+	}
+	
+	@Test
+	void setOperations_reuse_identical_subtrees() {
+		LexicographicTree first = treeOf("aide", "as", "bus");
+		assertSame(first.getRoot(), first.union(treeOf("as", "bus")).getRoot());
+		assertSame(first.getRoot(), first.intersection(treeOf("aide", "as", "bus", "car")).getRoot());
+		assertSame(first.getRoot(), first.difference(treeOf("zoo", "asse")).getRoot());
+		LexicographicTree union = first.union(treeOf("bu"));
+		assertNotSame(first.getRoot(), union.getRoot());
+		assertSame(first.getRoot().getChild('a'), union.getRoot().getChild('a'));
+		assertEquals(4, union.size());
+	}
+	
+	@Test
+	void getNode_followsPrefixes() {
+		LexicographicTree tree = treeOf("bu", "bus", "but");
+		assertSame(tree.getNode("b"), tree.getNode("").getChild('b'));
+		assertTrue(tree.getNode("bu").isWord());
+		assertFalse(tree.getNode("b").isWord());
+		assertTrue(tree.getNode("bu").hasChildren());
+		assertFalse(tree.getNode("bus").hasChildren());
+		assertNull(tree.getNode("bx"));
+		assertNull(new LexicographicTree().getNode(""));
+	}
+	
+	@Test
+	void setOperations_with_suffix_index() {
+		LexicographicTree first = new LexicographicTree(true);
+		first.insertWord("avions");
+		first.insertWord("lions");
+		LexicographicTree second = new LexicographicTree(true);
+		second.insertWord("camions");
+		LexicographicTree union = first.union(second);
+		assertTrue(union.hasSuffixIndex());
+		assertArrayEquals(new String[] { "avions", "camions", "lions" }, union.getWordsEndingWith("ions").toArray());
+	}
+	
+	@Test
+	void union_dictionary() {
+		LexicographicTree dict = new LexicographicTree(FILE_PATH);
+		LexicographicTree union = dict.union(treeOf("aaaaa", "zzzzz", "maison"));
+		assertEquals(dict.size() + 2, union.size());
+		assertTrue(union.containsWord("zzzzz"));
+		assertFalse(dict.containsWord("zzzzz"));
+		assertEquals(dict.size(), union.difference(treeOf("aaaaa", "zzzzz")).size());
+	}
+
+	// Recherches sans allocation
+	@Test
+	void containsWord_CharSequence_and_ignoreCase() {
+		assertTrue(DICT.containsWord(new StringBuilder("aide")));
+		assertFalse(DICT.containsWord(new StringBuilder("aid")));
+		assertFalse(DICT.containsWord(new StringBuilder("AIDE")));
+		assertTrue(DICT.containsWord(new StringBuilder("AIDE"), true));
+		assertTrue(DICT.containsWord("bUt", true));
+		assertFalse(DICT.containsWord(new StringBuilder(), false));
+	}
+	
+	@Test
+	void containsWord_char_and_byte_ranges() {
+		char[] chars = "xxbusxx".toCharArray();
+		assertTrue(DICT.containsWord(chars, 2, 3));
+		assertTrue(DICT.containsWord(chars, 2, 2));
+		assertFalse(DICT.containsWord(chars, 1, 3));
+		byte[] bytes = "--ETE--".getBytes(StandardCharsets.US_ASCII);
+		assertFalse(DICT.containsWord(bytes, 2, 3));
+		assertTrue(DICT.containsWord(bytes, 2, 3, true));
+		assertTrue(DICT.containsWord(bytes, 2, 2, true));
+		assertThrows(IndexOutOfBoundsException.class, () -> DICT.containsWord(chars, 5, 3));
+	}
+	
+	@Test
+	void containsPrefix_overloads() {
+		assertTrue(DICT.containsPrefix(new StringBuilder("ai")));
+		assertTrue(DICT.containsPrefix(new StringBuilder("AI"), true));
+		assertFalse(DICT.containsPrefix(new StringBuilder("AI"), false));
+		assertFalse(DICT.containsPrefix(new StringBuilder()));
+		assertTrue(DICT.containsPrefix("xaux".toCharArray(), 1, 2));
+		assertFalse(DICT.containsPrefix("xaux".toCharArray(), 1, 0));
+		assertTrue(DICT.containsPrefix("AUX".getBytes(StandardCharsets.US_ASCII), 0, 3, true));
+		assertFalse(new LexicographicTree().containsPrefix("a"));
+	}
+
+	// Enumération parallèle
+	@Test
+	void getWordsParallel_General() {
+		assertEquals(DICT.getWords(""), DICT.getWordsParallel(""));
+		assertEquals(DICT.getWords("bu"), DICT.getWordsParallel("bu"));
+		assertEquals(0, DICT.getWordsParallel("x").size());
+		assertEquals(0, new LexicographicTree().getWordsParallel("").size());
+	}
+	
+	@Test
+	void getWordsOfLengthParallel_General() {
+		for (int length = -1; length <= 5; length++) {
+			assertEquals(DICT.getWordsOfLength(length), DICT.getWordsOfLengthParallel(length));
+		}
+	}
+	
+	@Test
+	void parallel_enumeration_dictionary() {
+		LexicographicTree dict = new LexicographicTree(FILE_PATH);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertEquals(dict.getWords(""), dict.getWordsParallel("", pool));
+			assertEquals(dict.getWordsOfLength(8), dict.getWordsOfLengthParallel(8, pool));
+			assertEquals(dict.getWordsOfLength(1), dict.getWordsOfLengthParallel(1, pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	// Requêtes ordonnées
+	@Test
+	void ceiling_higher_General() {
+		assertEquals("as", DICT.ceiling("as"));
+		assertEquals("au", DICT.higher("as"));
+		assertEquals("bu", DICT.ceiling("b"));
+		assertEquals("bu", DICT.ceiling("aw"));
+		assertEquals("et", DICT.ceiling("c"));
+		assertEquals("aide", DICT.ceiling(""));
+		assertEquals("ete", DICT.higher("et"));
+		assertNull(DICT.higher("ete"));
+		assertNull(DICT.ceiling("f"));
+		assertNull(new LexicographicTree().ceiling("a"));
+	}
+	
+	@Test
+	void floor_lower_General() {
+		assertEquals("as", DICT.floor("as"));
+		assertEquals("aide", DICT.lower("as"));
+		assertEquals("aux", DICT.floor("b"));
+		assertEquals("bu", DICT.floor("bur"));
+		assertEquals("but", DICT.floor("c"));
+		assertEquals("ete", DICT.floor("z"));
+		assertEquals("au", DICT.lower("aux"));
+		assertNull(DICT.lower("aide"));
+		assertNull(DICT.floor("a"));
+		assertNull(new LexicographicTree().floor("a"));
+	}
+	
+	@Test
+	void range_General() {
+		assertEquals(Arrays.asList("au", "aux", "bu", "bus"), DICT.range("at", "but").collect(Collectors.toList()));
+		assertEquals(Arrays.asList(WORDS), DICT.range("", "z").collect(Collectors.toList()));
+		assertEquals(Arrays.asList("bu", "bus", "but"), DICT.range("b", "c").collect(Collectors.toList()));
+		assertEquals(0, DICT.range("but", "bus").count());
+		assertEquals(0, DICT.range("c", "d").count());
+	}
+	
+	@Test
+	void orderedQueries_invalidCharacters() {
+		assertThrows(IllegalArgumentException.class, () -> DICT.ceiling("Bus"));
+		assertThrows(IllegalArgumentException.class, () -> DICT.floor("b s"));
+		assertThrows(IllegalArgumentException.class, () -> DICT.range("a", "é"));
+	}
+	
+	@Test
+	void orderedQueries_dictionary() {
+		LexicographicTree dict = new LexicographicTree(FILE_PATH);
+		List<String> words = dict.getWords("");
+		for (int i = 1; i < words.size(); i += 997) {
+			String word = words.get(i);
+			assertEquals(word, dict.ceiling(word));
+			assertEquals(words.get(i + 1), dict.higher(word));
+			assertEquals(words.get(i - 1), dict.lower(word));
+			assertEquals(word, dict.floor(word));
+			assertEquals(word, dict.lower(words.get(i + 1)));
+		}
+		assertEquals(words.subList(1000, 1500), dict.range(words.get(1000), words.get(1500)).collect(Collectors.toList()));
+	}
+
 }
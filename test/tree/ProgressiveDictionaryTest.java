@@ -0,0 +1,97 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProgressiveDictionaryTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+
+	@TempDir
+	Path directory;
+
+	private Path writeDictionary(String... words) throws IOException {
+		return Files.write(directory.resolve("dico.txt"), Arrays.asList(words), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void queries_unsortedFile() throws Exception {
+		Path file = writeDictionary("bus", "aide", "Été", "as", "-ci", "but", "au", "", "aux", "zoo");
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(file.toString());
+		assertTrue(dictionary.containsWord("bus"));
+		assertTrue(dictionary.containsWord("ete"));
+		assertTrue(dictionary.containsWord("-ci"));
+		assertFalse(dictionary.containsWord("bu"));
+		assertFalse(dictionary.containsWord("Bus"));
+		assertTrue(dictionary.containsPrefix("au"));
+		assertFalse(dictionary.containsPrefix("c"));
+		assertEquals(Arrays.asList("aide", "as", "au", "aux"), dictionary.getWords("a"));
+		assertEquals(Arrays.asList("aide", "as", "au", "aux", "bus", "but", "ete", "zoo", "-ci"), dictionary.getWords(""));
+		assertEquals(9, dictionary.whenLoaded().get(5, TimeUnit.SECONDS).size());
+		assertTrue(dictionary.isReady("b"));
+	}
+
+	@Test
+	void whenLoaded_sameAsSynchronousLoad() throws Exception {
+		LexicographicTree expected = new LexicographicTree(FILE_PATH);
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(FILE_PATH);
+		assertTrue(dictionary.containsWord("zygomatique"));
+		assertEquals(expected.getWords("mar"), dictionary.getWords("mar"));
+		LexicographicTree tree = dictionary.whenLoaded().get(30, TimeUnit.SECONDS);
+		assertEquals(expected.size(), tree.size());
+		assertEquals(expected.getWords(""), tree.getWords(""));
+	}
+
+	@Test
+	void queries_supplementaryCharacters() throws Exception {
+		// Caractère hors du plan multilingue de base (4 octets en UTF-8) : ignoré, le mot commence par 'x'
+		Path file = writeDictionary("x", "\uD900\uDC00xa", "bus", "\uD83D\uDE00\u00E9t\u00E9");
+		LexicographicTree expected = new DictionaryLoader().load(file);
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(file.toString());
+		assertTrue(dictionary.containsWord("xa"));
+		assertTrue(dictionary.containsWord("ete"));
+		LexicographicTree tree = dictionary.whenLoaded().get(5, TimeUnit.SECONDS);
+		assertEquals(Arrays.asList("bus", "ete", "x", "xa"), expected.getWords(""));
+		assertEquals(expected.getWords(""), tree.getWords(""));
+		assertEquals(4, tree.size());
+	}
+
+	@Test
+	void whenLoaded_insertDoesNotChangeShards() throws Exception {
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(writeDictionary("bus", "but").toString());
+		LexicographicTree tree = dictionary.whenLoaded().get(5, TimeUnit.SECONDS);
+		tree.insertWord("bu");
+		assertTrue(tree.containsWord("bu"));
+		assertFalse(dictionary.containsWord("bu"));
+	}
+
+	@Test
+	void compressedFile_loadedAtOnce() throws Exception {
+		Path file = directory.resolve("dico.txt.gz");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+			out.write("aide\nbus\n".getBytes(StandardCharsets.UTF_8));
+		}
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync(file.toString());
+		assertTrue(dictionary.containsWord("bus"));
+		assertEquals(2, dictionary.whenLoaded().get(5, TimeUnit.SECONDS).size());
+	}
+
+	@Test
+	void missingFile() {
+		ProgressiveDictionary dictionary = new DictionaryLoader().loadAsync("fichier-absent.txt");
+		assertThrows(CompletionException.class, () -> dictionary.containsWord("bus"));
+		assertThrows(ExecutionException.class, () -> dictionary.whenLoaded().get(5, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,174 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TrieMapTest {
+
+	@Test
+	void put_get_General() {
+		TrieMap<String> map = new TrieMap<>();
+		assertNull(map.put("bus", "autobus"));
+		assertNull(map.put("bu", "participe"));
+		assertEquals("autobus", map.put("bus", "car"));
+		assertEquals("car", map.get("bus"));
+		assertEquals("participe", map.get("bu"));
+		assertNull(map.get("b"));
+		assertNull(map.get("busx"));
+		assertEquals(2, map.size());
+		assertTrue(map.containsKey("bu"));
+		assertFalse(map.containsKey("b"));
+	}
+
+	@Test
+	void remove_General() {
+		TrieMap<Integer> map = new TrieMap<>();
+		map.put("as", 1);
+		assertEquals(Integer.valueOf(1), map.remove("as"));
+		assertNull(map.remove("as"));
+		assertEquals(0, map.size());
+		assertFalse(map.containsKey("as"));
+		map.put("as", 2);
+		assertEquals(Integer.valueOf(2), map.get("as"));
+	}
+
+	@Test
+	void merge_computeIfAbsent_General() {
+		TrieMap<List<Integer>> map = new TrieMap<>();
+		map.computeIfAbsent("et", key -> new ArrayList<>()).add(1);
+		map.computeIfAbsent("et", key -> new ArrayList<>()).add(2);
+		assertEquals(Arrays.asList(1, 2), map.get("et"));
+		assertNull(map.computeIfAbsent("ete", key -> null));
+		assertFalse(map.containsKey("ete"));
+
+		TrieMap<String> words = new TrieMap<>();
+		assertEquals("a", words.merge("au", "a", String::concat));
+		assertEquals("ab", words.merge("au", "b", String::concat));
+		assertNull(words.merge("au", "c", (a, b) -> null));
+		assertFalse(words.containsKey("au"));
+		assertThrows(NullPointerException.class, () -> words.put("au", null));
+	}
+
+	@Test
+	void forEach_prefix() {
+		TrieMap<Integer> map = new TrieMap<>();
+		String[] keys = { "but", "aide", "bus", "as", "bu", "aujourd'hui" };
+		for (int i = 0; i < keys.length; i++) {
+			map.put(keys[i], i);
+		}
+		List<String> found = new ArrayList<>();
+		map.forEach("bu", (key, value) -> found.add(key + "=" + value));
+		assertEquals(Arrays.asList("bu=4", "bus=2", "but=0"), found);
+		found.clear();
+		map.forEach("", (key, value) -> found.add(key));
+		assertEquals(Arrays.asList("aide", "as", "aujourd'hui", "bu", "bus", "but"), found);
+		found.clear();
+		map.forEach("x", (key, value) -> found.add(key));
+		assertTrue(found.isEmpty());
+	}
+
+	@Test
+	void invalidCharacters() {
+		TrieMap<String> map = new TrieMap<>();
+		assertThrows(IllegalArgumentException.class, () -> map.put("Bus", "car"));
+		assertThrows(IllegalArgumentException.class, () -> map.get("b s"));
+		assertThrows(IllegalArgumentException.class, () -> map.forEach("é", (key, value) -> { }));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	void intTrieMap_General() {
+		IntTrieMap counts = new IntTrieMap();
+		for (String word : "le chat et le chien et le rat".split(" ")) {
+			counts.merge(word, 1, Integer::sum);
+		}
+		assertEquals(3, counts.get("le"));
+		assertEquals(2, counts.get("et"));
+		assertEquals(0, counts.get("souris"));
+		assertEquals(-1, counts.getOrDefault("souris", -1));
+		assertEquals(5, counts.size());
+		assertEquals(3, counts.put("le", 10));
+		assertEquals(5, counts.computeIfAbsent("chats", String::length));
+		assertEquals(5, counts.computeIfAbsent("chats", key -> 0));
+		assertEquals(10, counts.remove("le"));
+		assertFalse(counts.containsKey("le"));
+
+		StringBuilder found = new StringBuilder();
+		counts.forEach("ch", (key, value) -> found.append(key).append(value).append(' '));
+		assertEquals("chat1 chats5 chien1 ", found.toString());
+	}
+
+	@Test
+	void longTrieMap_General() {
+		LongTrieMap offsets = new LongTrieMap();
+		offsets.put("aide", 5_000_000_000L);
+		assertEquals(5_000_000_001L, offsets.merge("aide", 1, Long::sum));
+		assertEquals(3L, offsets.merge("as", 3, Long::sum));
+		assertEquals(0L, offsets.get("au"));
+		assertEquals(7L, offsets.computeIfAbsent("au", key -> 7));
+		long[] total = new long[1];
+		offsets.forEach("a", (key, value) -> total[0] += value);
+		assertEquals(5_000_000_011L, total[0]);
+	}
+
+	@Test
+	void functions_modifyingMap() {
+		IntTrieMap counts = new IntTrieMap();
+		assertThrows(ConcurrentModificationException.class,
+				() -> counts.computeIfAbsent("bus", key -> counts.put(key, 1) + 2));
+		LongTrieMap offsets = new LongTrieMap();
+		assertThrows(ConcurrentModificationException.class,
+				() -> offsets.computeIfAbsent("bus", key -> offsets.put(key, 1) + 2));
+		// Ajouter d'autres clés dans la fonction reste possible, même si les tableaux sont agrandis
+		for (int i = 0; i < 100; i++) {
+			int value = i;
+			String key = "mot" + (char) ('a' + i % 26) + (char) ('a' + i / 26);
+			assertEquals(value, counts.computeIfAbsent(key, k -> {
+				counts.put(k + "s", -1);
+				return value;
+			}));
+			assertEquals(value, counts.get(key));
+		}
+		assertEquals(1, counts.get("bus"));
+		assertEquals(201, counts.size());
+
+		IntTrieMap merged = new IntTrieMap();
+		merged.put("a", 1);
+		assertEquals(6, merged.merge("a", 5, (previous, value) -> {
+			for (int i = 0; i < 200; i++) {
+				merged.put("b" + (char) ('a' + i % 26) + (char) ('a' + i / 26), i);
+			}
+			return previous + value;
+		}));
+		assertEquals(6, merged.get("a"));
+		LongTrieMap longMerged = new LongTrieMap();
+		longMerged.put("a", 1);
+		assertEquals(6L, longMerged.merge("a", 5, (previous, value) -> {
+			for (int i = 0; i < 200; i++) {
+				longMerged.put("b" + (char) ('a' + i % 26) + (char) ('a' + i / 26), i);
+			}
+			return previous + value;
+		}));
+		assertEquals(6L, longMerged.get("a"));
+	}
+
+	@Test
+	void intTrieMap_dictionary() {
+		LexicographicTree dict = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		IntTrieMap ids = new IntTrieMap();
+		List<String> words = dict.getWords("");
+		for (int i = 0; i < words.size(); i++) {
+			ids.put(words.get(i), i);
+		}
+		assertEquals(dict.size(), ids.size());
+		for (int i = 0; i < words.size(); i += 101) {
+			assertEquals(i, ids.get(words.get(i)));
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TrieNodeArenaTest {
+
+	private static final String[] WORDS = new String[] { "bus", "aide", "as", "but", "au", "aux", "ete", "bu", "et", "aujourd'hui", "a+b" };
+
+	/**
+	 * Vérifie que deux sous-arbres ont la même structure, y compris la taille des tableaux d'enfants.
+	 */
+	private static void assertSameStructure(TrieNode expected, TrieNode actual) {
+		assertEquals(expected.isWord(), actual.isWord());
+		assertEquals(expected.getNumbersOfChildren(), actual.getNumbersOfChildren());
+		for (int i = 0; i < expected.getNumbersOfChildren(); i++) {
+			TrieNode child = expected.getChildren()[i];
+			if (child == null) {
+				assertNull(actual.getChildren()[i]);
+			} else {
+				assertSameStructure(child, actual.getChildren()[i]);
+			}
+		}
+	}
+
+	@Test
+	void compact_sameStructureAsInsertWord() {
+		TrieNodeArena arena = new TrieNodeArena(4);
+		TrieNode expected = new TrieNode();
+		for (String word : WORDS) {
+			arena.insert(word, false);
+			TrieNode current = expected;
+			for (char c : word.toCharArray()) {
+				if (current.charToIndex(c) < 0) {
+					continue;
+				}
+				if (current.getChild(c) == null) {
+					current.setChild(c, new TrieNode());
+				}
+				current = current.getChild(c);
+			}
+			current.setIsWord(true);
+		}
+		assertEquals(WORDS.length, arena.size());
+		assertSameStructure(expected, arena.compact());
+	}
+
+	@Test
+	void insert_duplicatesAndReversed() {
+		TrieNodeArena arena = new TrieNodeArena(0);
+		arena.insert("bus", false);
+		arena.insert("bus", false);
+		arena.insert("sub", true);
+		arena.insert("xbusx".toCharArray(), 1, 3, false);
+		arena.insert("xsubx".toCharArray(), 1, 3, true);
+		assertEquals(1, arena.size());
+		TrieNode root = arena.compact();
+		assertTrue(root.getChild('b').getChild('u').getChild('s').isWord());
+	}
+
+	@Test
+	void compact_empty() {
+		assertNull(new TrieNodeArena(0).compact());
+	}
+
+	@Test
+	void insert_growsBeyondHint() {
+		TrieNodeArena arena = new TrieNodeArena(1);
+		LexicographicTree expected = new LexicographicTree();
+		for (int i = 0; i < 100000; i++) {
+			String word = Integer.toString(i, 26).replace('0', 'z');
+			arena.insert(word, false);
+			expected.insertWord(word);
+		}
+		assertEquals(expected.size(), arena.size());
+		assertSameStructure(expected.getRoot(), arena.compact());
+	}
+
+	@Test
+	void forFileLength_hugeFile() {
+		// Un fichier de plusieurs To ne réserve qu'un nombre limité de blocs
+		TrieNodeArena arena = TrieNodeArena.forFileLength(Long.MAX_VALUE / 2);
+		for (String word : WORDS) {
+			arena.insert(word, false);
+		}
+		assertEquals(WORDS.length, arena.size());
+		assertTrue(arena.compact().getChild('b').getChild('u').getChild('s').isWord());
+	}
+}
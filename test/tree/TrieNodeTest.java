@@ -81,4 +81,18 @@ class TrieNodeTest {
         assertEquals(child, children[node.charToIndex('a')]);
     }
 
+
+    @Test
+    public void testCopy() {
+        TrieNode child = new TrieNode();
+        node.setChild('b', child);
+        node.setIsWord(true);
+        TrieNode copy = node.copy();
+        assertTrue(copy.isWord());
+        assertFalse(copy.isShared());
+        assertSame(child, copy.getChild('b'));
+        assertTrue(child.isShared());
+        copy.setChild('c', new TrieNode());
+        assertNull(node.getChild('c'));
+    }
 }
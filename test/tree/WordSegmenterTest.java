@@ -0,0 +1,61 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class WordSegmenterTest {
+	private static final String[] WORDS = new String[] { "a", "la", "lac", "campagne", "camp", "agne", "ete", "bus", "aujourd'hui" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	private static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void segment_fewestWords() {
+		assertEquals(Arrays.asList("a", "la", "campagne"), new WordSegmenter(DICT).segment("alacampagne"));
+	}
+
+	@Test
+	void segment_caseAndAccents() {
+		assertEquals(Arrays.asList("ÉTÉ", "Bus"), new WordSegmenter(DICT).segment("ÉTÉBus"));
+		assertEquals(Arrays.asList("aujourd’hui"), new WordSegmenter(DICT).segment("aujourd’hui"));
+	}
+
+	@Test
+	void segment_unknownCharacters() {
+		List<String> segments = new WordSegmenter(DICT).segment("bus1880xyzete");
+		assertEquals(Arrays.asList("bus", "1880xyz", "ete"), segments);
+		assertEquals("bus1880xyzete", String.join("", segments));
+	}
+
+	@Test
+	void segment_customCost() {
+		// Les mots courts sont favorisés : "camp" + "agne" plutôt que "campagne"
+		WordSegmenter segmenter = new WordSegmenter(DICT, (text, start, end) -> end - start >= 8 ? 10 : 1, 20);
+		assertEquals(Arrays.asList("camp", "agne"), segmenter.segment("campagne"));
+	}
+
+	@Test
+	void segment_emptyInputs() {
+		assertEquals(0, new WordSegmenter(DICT).segment("").size());
+		assertEquals(Arrays.asList("bus"), new WordSegmenter(new LexicographicTree()).segment("bus"));
+	}
+
+	@Test
+	void segment_dictionary() {
+		LexicographicTree dict = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		List<String> segments = new WordSegmenter(dict).segment("lapremierescenesepassealacampagne");
+		// "a" n'est pas dans le dictionnaire : il forme un segment inconnu
+		assertEquals(Arrays.asList("la", "premiere", "scene", "se", "passe", "a", "la", "campagne"), segments);
+		assertFalse(dict.containsWord("a"));
+	}
+}